@@ -0,0 +1,94 @@
+package com.ecommerce.benchmarks;
+
+import com.ecommerce.order.dto.OrderItemDTO;
+import com.ecommerce.order.dto.OrderResponse;
+import com.ecommerce.order.model.Money;
+import com.ecommerce.order.model.OrderStatus;
+import com.ecommerce.product.dto.ProductResponse;
+import com.ecommerce.user.dto.AddressDTO;
+import com.ecommerce.user.dto.UserResponse;
+import com.ecommerce.user.models.UserRole;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialization cost of the response DTOs, using a mapper configured like Spring Boot's default.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonSerializationBenchmark {
+
+    private ObjectMapper objectMapper;
+    private ProductResponse productResponse;
+    private UserResponse userResponse;
+    private OrderResponse orderResponse;
+
+    @Setup
+    public void setUp() {
+        objectMapper = JsonMapper.builder()
+                .findAndAddModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+
+        productResponse = new ProductResponse();
+        productResponse.setId(42L);
+        productResponse.setName("Gaming Laptop");
+        productResponse.setDescription("Fast laptop for games");
+        productResponse.setPrice(new BigDecimal("1299.99"));
+        productResponse.setStockQuantity(12);
+        productResponse.setCategory("Electronics");
+        productResponse.setImageUrl("https://example.com/laptop.jpg");
+        productResponse.setActive(true);
+
+        AddressDTO address = new AddressDTO();
+        address.setStreet("1 Main Street");
+        address.setCity("Pune");
+        address.setState("MH");
+        address.setCountry("India");
+        address.setZipcode("411001");
+        userResponse = new UserResponse();
+        userResponse.setId("665f1c2e9b1e8a3d4c5b6a79");
+        userResponse.setFirstName("John");
+        userResponse.setLastName("Doe");
+        userResponse.setEmail("john@example.com");
+        userResponse.setPhone("1234567890");
+        userResponse.setRole(UserRole.CUSTOMER);
+        userResponse.setAddress(address);
+
+        List<OrderItemDTO> items = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            Money price = Money.ofMinor(1999 + i);
+            items.add(new OrderItemDTO((long) i, "product-" + i, 2, price, price.times(2)));
+        }
+        orderResponse = new OrderResponse(1L, Money.ofMinor(42000), OrderStatus.CONFIRMED, items,
+                LocalDateTime.now());
+    }
+
+    @Benchmark
+    public byte[] productResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(productResponse);
+    }
+
+    @Benchmark
+    public byte[] userResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(userResponse);
+    }
+
+    @Benchmark
+    public byte[] orderResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(orderResponse);
+    }
+}
@@ -0,0 +1,148 @@
+package com.ecommerce.benchmarks;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Closed-loop HTTP load generator for comparing a service running on platform threads with the same
+ * service running on virtual threads ({@code VIRTUAL_THREADS_ENABLED=false|true}). Each target is
+ * hammered by {@code --concurrency} clients, one virtual thread each, for the warmup and then the
+ * measured duration; throughput and latency percentiles are printed per target.
+ *
+ * <pre>
+ * java -cp benchmarks.jar com.ecommerce.benchmarks.LoadTestRunner --concurrency 2000 --duration 60s \
+ *     platform=http://localhost:8081/api/products?size=50 virtual=http://localhost:9081/api/products?size=50
+ * </pre>
+ */
+public class LoadTestRunner {
+
+    public static void main(String[] args) throws Exception {
+        int concurrency = 1000;
+        Duration warmup = Duration.ofSeconds(10);
+        Duration duration = Duration.ofSeconds(30);
+        Map<String, URI> targets = new LinkedHashMap<>();
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--concurrency" -> concurrency = Integer.parseInt(args[++i]);
+                case "--warmup" -> warmup = parseDuration(args[++i]);
+                case "--duration" -> duration = parseDuration(args[++i]);
+                default -> {
+                    int separator = args[i].indexOf('=');
+                    if (separator <= 0) {
+                        throw new IllegalArgumentException("Expected label=url, got " + args[i]);
+                    }
+                    targets.put(args[i].substring(0, separator), URI.create(args[i].substring(separator + 1)));
+                }
+            }
+        }
+        if (targets.isEmpty()) {
+            throw new IllegalArgumentException("Usage: LoadTestRunner [--concurrency N] [--warmup 10s] "
+                    + "[--duration 30s] label=url [label=url ...]");
+        }
+
+        System.out.printf("%-12s %8s %12s %10s %10s %10s %10s %8s%n",
+                "target", "clients", "req/s", "p50 ms", "p99 ms", "p99.9 ms", "max ms", "errors");
+        for (Map.Entry<String, URI> target : targets.entrySet()) {
+            run(target.getValue(), concurrency, warmup);
+            Result result = run(target.getValue(), concurrency, duration);
+            System.out.printf("%-12s %8d %12.1f %10.2f %10.2f %10.2f %10.2f %8d%n",
+                    target.getKey(), concurrency, result.throughput(),
+                    result.percentileMillis(0.50), result.percentileMillis(0.99),
+                    result.percentileMillis(0.999), result.percentileMillis(1.0), result.errors());
+        }
+    }
+
+    private static Result run(URI uri, int concurrency, Duration duration) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+        AtomicLong errors = new AtomicLong();
+        long deadline = System.nanoTime() + duration.toNanos();
+        List<Future<long[]>> clients = new ArrayList<>(concurrency);
+        long started = System.nanoTime();
+        try (HttpClient httpClient = HttpClient.newBuilder()
+                     .connectTimeout(Duration.ofSeconds(10))
+                     .build();
+             ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                clients.add(executor.submit(() -> {
+                    long[] latencies = new long[1024];
+                    int count = 0;
+                    while (System.nanoTime() < deadline) {
+                        long start = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() >= 400) {
+                                errors.incrementAndGet();
+                                continue;
+                            }
+                        } catch (IOException e) {
+                            errors.incrementAndGet();
+                            continue;
+                        }
+                        if (count == latencies.length) {
+                            latencies = Arrays.copyOf(latencies, count * 2);
+                        }
+                        latencies[count++] = System.nanoTime() - start;
+                    }
+                    return Arrays.copyOf(latencies, count);
+                }));
+            }
+            List<long[]> perClient = new ArrayList<>(concurrency);
+            for (Future<long[]> client : clients) {
+                perClient.add(client.get());
+            }
+            long elapsed = System.nanoTime() - started;
+            long[] all = new long[perClient.stream().mapToInt(latencies -> latencies.length).sum()];
+            int offset = 0;
+            for (long[] latencies : perClient) {
+                System.arraycopy(latencies, 0, all, offset, latencies.length);
+                offset += latencies.length;
+            }
+            Arrays.sort(all);
+            return new Result(all, elapsed, errors.get());
+        }
+    }
+
+    private static Duration parseDuration(String value) {
+        if (value.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+        }
+        if (value.endsWith("s")) {
+            return Duration.ofSeconds(Long.parseLong(value.substring(0, value.length() - 1)));
+        }
+        if (value.endsWith("m")) {
+            return Duration.ofMinutes(Long.parseLong(value.substring(0, value.length() - 1)));
+        }
+        return Duration.parse(value);
+    }
+
+    private record Result(long[] sortedLatencies, long elapsedNanos, long errors) {
+
+        double throughput() {
+            return sortedLatencies.length / (elapsedNanos / 1_000_000_000.0);
+        }
+
+        double percentileMillis(double percentile) {
+            if (sortedLatencies.length == 0) {
+                return Double.NaN;
+            }
+            int index = (int) Math.ceil(percentile * sortedLatencies.length) - 1;
+            return sortedLatencies[Math.max(0, Math.min(index, sortedLatencies.length - 1))] / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.ecommerce.order.model;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Checkout arithmetic on {@link BigDecimal} (the previous representation) against {@link Money}.
+ * Run with {@code -prof gc} to compare allocation per operation as well as time.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoneyBenchmark {
+
+    @Param({"1", "10", "100"})
+    public int itemCount;
+
+    private List<Line> lines;
+
+    @Setup
+    public void setUp() {
+        lines = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            long minor = 1999 + i;
+            lines.add(new Line(BigDecimal.valueOf(minor, 2), Money.ofMinor(minor), i % 5 + 1));
+        }
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimalTotal() {
+        BigDecimal total = BigDecimal.ZERO;
+        for (Line line : lines) {
+            total = total.add(line.decimalPrice().multiply(new BigDecimal(line.quantity())));
+        }
+        return total;
+    }
+
+    @Benchmark
+    public Money moneyTotal() {
+        return Money.total(lines, Line::moneyPrice, Line::quantity);
+    }
+
+    @Benchmark
+    public void bigDecimalSubtotals(Blackhole blackhole) {
+        for (Line line : lines) {
+            blackhole.consume(line.decimalPrice().multiply(new BigDecimal(line.quantity())));
+        }
+    }
+
+    @Benchmark
+    public void moneySubtotals(Blackhole blackhole) {
+        for (Line line : lines) {
+            blackhole.consume(line.moneyPrice().times(line.quantity()));
+        }
+    }
+
+    public record Line(BigDecimal decimalPrice, Money moneyPrice, int quantity) {
+    }
+}
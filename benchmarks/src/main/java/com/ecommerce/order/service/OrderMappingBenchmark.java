@@ -0,0 +1,64 @@
+package com.ecommerce.order.service;
+
+import com.ecommerce.order.dto.OrderResponse;
+import com.ecommerce.order.model.CartItem;
+import com.ecommerce.order.model.Money;
+import com.ecommerce.order.model.Order;
+import com.ecommerce.order.model.OrderItem;
+import com.ecommerce.order.model.OrderStatus;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderMappingBenchmark {
+
+    @Param({"1", "10", "100"})
+    public int itemCount;
+
+    private OrderService orderService;
+    private Order order;
+    private List<CartItem> cartItems;
+
+    @Setup
+    public void setUp() {
+        orderService = new OrderService(null, null, null, null, null, null, null);
+        order = new Order();
+        order.setId(1L);
+        order.setUserId("user-1");
+        order.setStatus(OrderStatus.CONFIRMED);
+        order.setCreatedAt(LocalDateTime.now());
+        cartItems = new ArrayList<>();
+        List<OrderItem> items = new ArrayList<>();
+        for (int i = 0; i < itemCount; i++) {
+            Money price = Money.ofMinor(1999 + i);
+            items.add(new OrderItem((long) i, "product-" + i, i % 5 + 1, price, order));
+
+            CartItem cartItem = new CartItem();
+            cartItem.setProductId("product-" + i);
+            cartItem.setQuantity(i % 5 + 1);
+            cartItem.setPrice(price);
+            cartItems.add(cartItem);
+        }
+        order.setItems(items);
+        order.setTotalAmount(OrderService.calculateTotal(cartItems));
+    }
+
+    @Benchmark
+    public OrderResponse mapToOrderResponse() {
+        return orderService.mapToOrderResponse(order);
+    }
+
+    @Benchmark
+    public Money cartTotal() {
+        return OrderService.calculateTotal(cartItems);
+    }
+}
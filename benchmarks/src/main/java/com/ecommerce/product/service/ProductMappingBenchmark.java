@@ -0,0 +1,41 @@
+package com.ecommerce.product.service;
+
+import com.ecommerce.product.dto.ProductResponse;
+import com.ecommerce.product.model.Product;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProductMappingBenchmark {
+
+    private ProductService productService;
+    private Product product;
+
+    @Setup
+    public void setUp() {
+        productService = new ProductService(null, null, null, null, null);
+        product = new Product();
+        product.setId(42L);
+        product.setName("Gaming Laptop");
+        product.setDescription("Fast laptop for games");
+        product.setPrice(new BigDecimal("1299.99"));
+        product.setStockQuantity(12);
+        product.setCategory("Electronics");
+        product.setImageUrl("https://example.com/laptop.jpg");
+        product.setCreatedAt(LocalDateTime.now());
+        product.setUpdatedAt(LocalDateTime.now());
+    }
+
+    @Benchmark
+    public ProductResponse mapToProductResponse() {
+        return productService.mapToProductResponse(product);
+    }
+}
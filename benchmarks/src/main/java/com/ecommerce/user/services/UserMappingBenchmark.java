@@ -0,0 +1,44 @@
+package com.ecommerce.user.services;
+
+import com.ecommerce.user.dto.UserResponse;
+import com.ecommerce.user.models.Address;
+import com.ecommerce.user.models.User;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserMappingBenchmark {
+
+    private UserService userService;
+    private User user;
+
+    @Setup
+    public void setUp() {
+        userService = new UserService(null, null, null, null);
+        Address address = new Address();
+        address.setStreet("1 Main Street");
+        address.setCity("Pune");
+        address.setState("MH");
+        address.setCountry("India");
+        address.setZipcode("411001");
+
+        user = new User();
+        user.setId("665f1c2e9b1e8a3d4c5b6a79");
+        user.setFirstName("John");
+        user.setLastName("Doe");
+        user.setEmail("john@example.com");
+        user.setPhone("1234567890");
+        user.setAddress(address);
+    }
+
+    @Benchmark
+    public UserResponse mapToUserResponse() {
+        return userService.mapToUserResponse(user);
+    }
+}
@@ -0,0 +1,151 @@
+package com.ecommerce.order.cart;
+
+import com.ecommerce.order.config.CartSweeperProperties;
+import com.ecommerce.order.dto.CartSweepStats;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Deletes carts nobody has touched for longer than the configured TTL. Each run walks the
+ * (updated_at, id) index from the oldest row in small batches, each in its own short transaction,
+ * and pauses between batches. Rows locked by a running checkout are skipped rather than waited on,
+ * and a cart is only removed when none of its lines is newer than the cutoff.
+ */
+@Slf4j
+@Component
+public class AbandonedCartSweeper {
+
+    private static final LocalDateTime START = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final String SELECT_BATCH =
+            "SELECT id, updated_at FROM cart_item " +
+            "WHERE updated_at < ? AND (updated_at, id) > (?, ?) " +
+            "ORDER BY updated_at, id LIMIT ? FOR UPDATE SKIP LOCKED";
+    private static final String DELETE_IDLE =
+            "DELETE FROM cart_item d WHERE d.id = ANY(?) " +
+            "AND NOT EXISTS (SELECT 1 FROM cart_item n WHERE n.user_id = d.user_id AND n.updated_at >= ?) " +
+            "RETURNING d.user_id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final CartStore cartStore;
+    private final CartSweeperProperties properties;
+
+    private final AtomicLong runs = new AtomicLong();
+    private final AtomicLong rowsSwept = new AtomicLong();
+    private final AtomicLong cartsSwept = new AtomicLong();
+    private final AtomicLong totalTimeNanos = new AtomicLong();
+    private final AtomicReference<LastRun> lastRun = new AtomicReference<>();
+
+    public AbandonedCartSweeper(JdbcTemplate jdbcTemplate,
+                                TransactionTemplate transactionTemplate,
+                                CartStore cartStore,
+                                CartSweeperProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.cartStore = cartStore;
+        this.properties = properties;
+    }
+
+    @Scheduled(fixedDelayString = "${order.cart.sweeper.interval:PT5M}",
+            initialDelayString = "${order.cart.sweeper.interval:PT5M}")
+    public void sweep() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        long start = System.nanoTime();
+        Timestamp cutoff = Timestamp.valueOf(LocalDateTime.now().minus(properties.getTtl()));
+        Cursor cursor = new Cursor(Timestamp.valueOf(START), 0L);
+        Set<String> sweptUsers = new HashSet<>();
+        long swept = 0;
+
+        for (int batch = 0; batch < properties.getMaxBatchesPerRun(); batch++) {
+            Cursor after = cursor;
+            BatchResult result = transactionTemplate.execute(status -> sweepBatch(cutoff, after));
+            if (result == null || result.next() == null) {
+                break;
+            }
+            swept += result.deletedUsers().size();
+            sweptUsers.addAll(result.deletedUsers());
+            cursor = result.next();
+            if (!result.full()) {
+                break;
+            }
+            if (!pause()) {
+                break;
+            }
+        }
+
+        sweptUsers.forEach(cartStore::evictIfClean);
+        long elapsed = System.nanoTime() - start;
+        runs.incrementAndGet();
+        rowsSwept.addAndGet(swept);
+        cartsSwept.addAndGet(sweptUsers.size());
+        totalTimeNanos.addAndGet(elapsed);
+        lastRun.set(new LastRun(swept, elapsed / 1_000_000, LocalDateTime.now()));
+        if (swept > 0) {
+            log.info("Swept {} abandoned cart rows from {} carts in {} ms", swept, sweptUsers.size(), elapsed / 1_000_000);
+        }
+    }
+
+    public CartSweepStats stats() {
+        LastRun last = lastRun.get();
+        return new CartSweepStats(
+                runs.get(),
+                rowsSwept.get(),
+                cartsSwept.get(),
+                totalTimeNanos.get() / 1_000_000,
+                last == null ? 0 : last.rows(),
+                last == null ? 0 : last.millis(),
+                last == null ? null : last.at());
+    }
+
+    private BatchResult sweepBatch(Timestamp cutoff, Cursor after) {
+        List<Cursor> rows = jdbcTemplate.query(SELECT_BATCH,
+                (rs, rowNum) -> new Cursor(rs.getTimestamp("updated_at"), rs.getLong("id")),
+                cutoff, after.updatedAt(), after.id(), properties.getBatchSize());
+        if (rows.isEmpty()) {
+            return new BatchResult(List.of(), null, false);
+        }
+        Long[] ids = rows.stream().map(Cursor::id).toArray(Long[]::new);
+        List<String> deletedUsers = jdbcTemplate.query(
+                connection -> {
+                    PreparedStatement statement = connection.prepareStatement(DELETE_IDLE);
+                    statement.setArray(1, connection.createArrayOf("bigint", ids));
+                    statement.setTimestamp(2, cutoff);
+                    return statement;
+                },
+                (rs, rowNum) -> rs.getString(1));
+        return new BatchResult(deletedUsers, rows.get(rows.size() - 1), rows.size() == properties.getBatchSize());
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(properties.getPauseBetweenBatches());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private record Cursor(Timestamp updatedAt, long id) {
+    }
+
+    private record BatchResult(List<String> deletedUsers, Cursor next, boolean full) {
+    }
+
+    private record LastRun(long rows, long millis, LocalDateTime at) {
+    }
+}
@@ -0,0 +1,475 @@
+package com.ecommerce.order.cart;
+
+import com.ecommerce.order.config.CartStoreProperties;
+import com.ecommerce.order.model.CartItem;
+import com.ecommerce.order.model.Money;
+import com.ecommerce.order.repository.CartItemRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * In-memory home of live carts, sharded by user. Reads and writes are served from memory; each cart
+ * also records the changes made since its last flush, and those changes are written to cart_item in
+ * batches, either on every write (WRITE_THROUGH) or on a fixed delay and whenever the number of dirty
+ * carts reaches the flush threshold (WRITE_BEHIND).
+ *
+ * <p>A flush applies changes rather than overwriting rows: added quantities go through an additive
+ * upsert and a removal deletes its row, so flushes from several instances, or from a stale cached
+ * cart, merge with what is already in cart_item instead of replacing it. A cached cart does not see
+ * rows written by other instances until it is evicted and reloaded; checkout always reads cart_item.
+ *
+ * <p>Flushes of the same shard are serialized by that shard's flush lock, so changes to one cart
+ * reach the database in the order they were made. The lock is taken before a connection is borrowed
+ * and is never held while waiting for one; callers flushing a single cart must not hold a connection
+ * either, which is why checkout flushes before its transaction starts.
+ */
+@Slf4j
+@Component
+public class CartStore {
+
+    private static final String DELETE_LINE =
+            "DELETE FROM cart_item WHERE user_id = ? AND product_id = ?";
+    private static final String ADD_TO_LINE =
+            "INSERT INTO cart_item (user_id, product_id, quantity, price, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?) " +
+            "ON CONFLICT (user_id, product_id) DO UPDATE SET " +
+            "quantity = cart_item.quantity + EXCLUDED.quantity, price = EXCLUDED.price, " +
+            "updated_at = EXCLUDED.updated_at";
+
+    private final CartItemRepository cartItemRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate flushTransaction;
+    private final CartStoreProperties properties;
+    private final Shard[] shards;
+    private final AtomicInteger dirtyCarts = new AtomicInteger();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final ExecutorService flusher;
+
+    public CartStore(CartItemRepository cartItemRepository,
+                     JdbcTemplate jdbcTemplate,
+                     PlatformTransactionManager transactionManager,
+                     CartStoreProperties properties,
+                     @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.cartItemRepository = cartItemRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.flushTransaction = new TransactionTemplate(transactionManager);
+        this.flushTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.properties = properties;
+        this.shards = new Shard[Integer.highestOneBit(Math.max(1, properties.getShards() * 2 - 1))];
+        for (int i = 0; i < shards.length; i++) {
+            shards[i] = new Shard();
+        }
+        this.flusher = Executors.newSingleThreadExecutor(virtualThreads
+                ? Thread.ofVirtual().name("cart-flusher").factory()
+                : runnable -> {
+                    Thread thread = new Thread(runnable, "cart-flusher");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    public List<CartItem> get(String userId) {
+        return withCart(userId, false, cart -> cart.lines.values().stream()
+                .map(line -> line.toCartItem(userId))
+                .toList());
+    }
+
+    public void add(String userId, String productId, int quantity, Money price) {
+        withCart(userId, true, cart -> {
+            cart.apply(LineChange.addition(productId, quantity, price, LocalDateTime.now()));
+            return true;
+        });
+    }
+
+    /**
+     * Applies several additions to one cart under a single lock acquisition, so they become visible
+     * and are flushed together.
+     */
+    public void addAll(String userId, List<Addition> additions) {
+        if (additions.isEmpty()) {
+            return;
+        }
+        withCart(userId, true, cart -> {
+            LocalDateTime now = LocalDateTime.now();
+            for (Addition addition : additions) {
+                cart.apply(LineChange.addition(addition.productId(), addition.quantity(), addition.price(), now));
+            }
+            return true;
+        });
+    }
+
+    public boolean remove(String userId, String productId) {
+        return withCart(userId, true, cart -> cart.lines.containsKey(productId)
+                && cart.apply(LineChange.removal(productId, LocalDateTime.now())));
+    }
+
+    /**
+     * Writes the user's unflushed changes to cart_item now, in their own transaction. Must not be
+     * called while holding a connection, e.g. from inside another transaction.
+     */
+    public void flush(String userId) {
+        Shard shard = shardFor(userId);
+        shard.flushLock.lock();
+        try {
+            List<CartChanges> changes = new ArrayList<>(1);
+            drain(shard, userId, changes);
+            write(changes);
+        } finally {
+            shard.flushLock.unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${order.cart.flush-interval:PT1S}")
+    public void flushAll() {
+        flushDirty();
+        evictIdle();
+    }
+
+    /**
+     * Drops the user's cart from memory without writing it back, e.g. after checkout cleared it.
+     */
+    public void evict(String userId) {
+        Shard shard = shardFor(userId);
+        shard.lock.lock();
+        try {
+            shard.carts.remove(userId);
+            if (shard.dirty.remove(userId)) {
+                dirtyCarts.decrementAndGet();
+            }
+        } finally {
+            shard.lock.unlock();
+        }
+    }
+
+    /**
+     * Drops the user's cart from memory unless it has unflushed changes, which would restore it.
+     */
+    public void evictIfClean(String userId) {
+        Shard shard = shardFor(userId);
+        shard.lock.lock();
+        try {
+            if (!shard.dirty.contains(userId)) {
+                shard.carts.remove(userId);
+            }
+        } finally {
+            shard.lock.unlock();
+        }
+    }
+
+    public int dirtyCount() {
+        return dirtyCarts.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flusher.shutdownNow();
+        try {
+            flushDirty();
+        } catch (RuntimeException e) {
+            log.error("Could not flush {} dirty carts on shutdown", dirtyCarts.get(), e);
+        }
+    }
+
+    private <T> T withCart(String userId, boolean write, Function<UserCart, T> action) {
+        Shard shard = shardFor(userId);
+        boolean cached;
+        shard.lock.lock();
+        try {
+            cached = shard.carts.containsKey(userId);
+        } finally {
+            shard.lock.unlock();
+        }
+        UserCart loaded = cached ? null : load(userId);
+
+        T result;
+        boolean changed;
+        shard.lock.lock();
+        try {
+            UserCart cart = shard.carts.get(userId);
+            if (cart == null) {
+                cart = loaded != null ? loaded : load(userId);
+                shard.carts.put(userId, cart);
+            }
+            cart.lastAccessNanos = System.nanoTime();
+            result = action.apply(cart);
+            changed = write && !Boolean.FALSE.equals(result);
+            if (changed && shard.dirty.add(userId)
+                    && dirtyCarts.incrementAndGet() >= properties.getFlushThreshold()) {
+                requestFlush();
+            }
+        } finally {
+            shard.lock.unlock();
+        }
+        if (changed && properties.getDurability() == CartStoreProperties.Durability.WRITE_THROUGH) {
+            flush(userId);
+        }
+        return result;
+    }
+
+    private UserCart load(String userId) {
+        UserCart cart = new UserCart();
+        for (CartItem item : cartItemRepository.findByUserId(userId)) {
+            cart.lines.put(item.getProductId(), new CartLine(item.getProductId(), item.getQuantity(),
+                    item.getPrice(), item.getCreatedAt(), item.getUpdatedAt()));
+        }
+        return cart;
+    }
+
+    private void requestFlush() {
+        if (flushRequested.compareAndSet(false, true)) {
+            try {
+                flusher.execute(() -> {
+                    flushRequested.set(false);
+                    try {
+                        flushDirty();
+                    } catch (RuntimeException e) {
+                        log.warn("Threshold-triggered cart flush failed", e);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                flushRequested.set(false);
+            }
+        }
+    }
+
+    /**
+     * Flushes every dirty cart. Shard flush locks are taken in index order and released as soon as a
+     * batch has been written, so a single-cart flush waits for at most one batch.
+     */
+    private void flushDirty() {
+        List<Shard> locked = new ArrayList<>();
+        List<CartChanges> batch = new ArrayList<>();
+        try {
+            for (Shard shard : shards) {
+                shard.flushLock.lock();
+                locked.add(shard);
+                drainAll(shard, batch);
+                if (batch.size() >= properties.getFlushBatchSize()) {
+                    write(batch);
+                    batch.clear();
+                    unlockAll(locked);
+                }
+            }
+            write(batch);
+        } finally {
+            unlockAll(locked);
+        }
+    }
+
+    private void unlockAll(List<Shard> locked) {
+        locked.forEach(shard -> shard.flushLock.unlock());
+        locked.clear();
+    }
+
+    private void drain(Shard shard, String userId, List<CartChanges> changes) {
+        shard.lock.lock();
+        try {
+            if (shard.dirty.remove(userId)) {
+                dirtyCarts.decrementAndGet();
+                take(shard, userId, changes);
+            }
+        } finally {
+            shard.lock.unlock();
+        }
+    }
+
+    private void drainAll(Shard shard, List<CartChanges> changes) {
+        shard.lock.lock();
+        try {
+            shard.dirty.forEach(userId -> take(shard, userId, changes));
+            dirtyCarts.addAndGet(-shard.dirty.size());
+            shard.dirty.clear();
+        } finally {
+            shard.lock.unlock();
+        }
+    }
+
+    private void take(Shard shard, String userId, List<CartChanges> changes) {
+        UserCart cart = shard.carts.get(userId);
+        if (cart != null && !cart.pending.isEmpty()) {
+            changes.add(new CartChanges(userId, List.copyOf(cart.pending.values())));
+            cart.pending.clear();
+        }
+    }
+
+    /**
+     * Puts changes that could not be written back in front of anything recorded since, so the next
+     * flush applies them in their original order. Carts evicted in the meantime are left alone.
+     */
+    private void restore(List<CartChanges> failed) {
+        for (CartChanges changes : failed) {
+            Shard shard = shardFor(changes.userId());
+            shard.lock.lock();
+            try {
+                UserCart cart = shard.carts.get(changes.userId());
+                if (cart == null) {
+                    continue;
+                }
+                Map<String, LineChange> newer = new LinkedHashMap<>(cart.pending);
+                cart.pending.clear();
+                changes.lines().forEach(change -> cart.pending.put(change.productId(), change));
+                newer.values().forEach(change -> cart.pending.merge(change.productId(), change, LineChange::then));
+                if (shard.dirty.add(changes.userId())) {
+                    dirtyCarts.incrementAndGet();
+                }
+            } finally {
+                shard.lock.unlock();
+            }
+        }
+    }
+
+    private void write(List<CartChanges> changes) {
+        for (int from = 0; from < changes.size(); from += properties.getFlushBatchSize()) {
+            List<CartChanges> batch = changes.subList(from, Math.min(changes.size(), from + properties.getFlushBatchSize()));
+            try {
+                flushTransaction.executeWithoutResult(status -> writeBatch(batch));
+            } catch (RuntimeException e) {
+                restore(changes.subList(from, changes.size()));
+                throw e;
+            }
+        }
+    }
+
+    private void writeBatch(List<CartChanges> changes) {
+        List<Map.Entry<String, LineChange>> removals = new ArrayList<>();
+        List<Map.Entry<String, LineChange>> additions = new ArrayList<>();
+        for (CartChanges cart : changes) {
+            for (LineChange change : cart.lines()) {
+                if (change.replaces()) {
+                    removals.add(Map.entry(cart.userId(), change));
+                }
+                if (change.added() > 0) {
+                    additions.add(Map.entry(cart.userId(), change));
+                }
+            }
+        }
+        if (!removals.isEmpty()) {
+            jdbcTemplate.batchUpdate(DELETE_LINE, removals, removals.size(), (ps, entry) -> {
+                ps.setString(1, entry.getKey());
+                ps.setString(2, entry.getValue().productId());
+            });
+        }
+        if (!additions.isEmpty()) {
+            jdbcTemplate.batchUpdate(ADD_TO_LINE, additions, additions.size(), (ps, entry) -> {
+                LineChange change = entry.getValue();
+                ps.setString(1, entry.getKey());
+                ps.setString(2, change.productId());
+                ps.setInt(3, change.added());
+                ps.setBigDecimal(4, change.price().toBigDecimal());
+                ps.setTimestamp(5, Timestamp.valueOf(change.createdAt()));
+                ps.setTimestamp(6, Timestamp.valueOf(change.updatedAt()));
+            });
+        }
+    }
+
+    private void evictIdle() {
+        long idleNanos = properties.getIdleTimeout().toNanos();
+        long now = System.nanoTime();
+        for (Shard shard : shards) {
+            shard.lock.lock();
+            try {
+                shard.carts.entrySet().removeIf(entry -> !shard.dirty.contains(entry.getKey())
+                        && now - entry.getValue().lastAccessNanos > idleNanos);
+            } finally {
+                shard.lock.unlock();
+            }
+        }
+    }
+
+    private Shard shardFor(String userId) {
+        int hash = userId.hashCode();
+        return shards[(hash ^ (hash >>> 16)) & (shards.length - 1)];
+    }
+
+    private static final class Shard {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final ReentrantLock flushLock = new ReentrantLock();
+        private final Map<String, UserCart> carts = new HashMap<>();
+        private final Set<String> dirty = new LinkedHashSet<>();
+    }
+
+    private static final class UserCart {
+        private final Map<String, CartLine> lines = new LinkedHashMap<>();
+        private final Map<String, LineChange> pending = new LinkedHashMap<>();
+        private long lastAccessNanos;
+
+        boolean apply(LineChange change) {
+            if (change.replaces()) {
+                lines.remove(change.productId());
+            }
+            if (change.added() > 0) {
+                lines.merge(change.productId(),
+                        new CartLine(change.productId(), change.added(), change.price(), change.updatedAt(), change.updatedAt()),
+                        (existing, added) -> existing.plus(change.added(), change.price(), change.updatedAt()));
+            }
+            pending.merge(change.productId(), change, LineChange::then);
+            return true;
+        }
+    }
+
+    private record CartLine(String productId, int quantity, Money price,
+                            LocalDateTime createdAt, LocalDateTime updatedAt) {
+
+        CartLine plus(int added, Money newPrice, LocalDateTime now) {
+            return new CartLine(productId, quantity + added, newPrice, createdAt, now);
+        }
+
+        CartItem toCartItem(String userId) {
+            CartItem item = new CartItem();
+            item.setUserId(userId);
+            item.setProductId(productId);
+            item.setQuantity(quantity);
+            item.setPrice(price);
+            item.setCreatedAt(createdAt);
+            item.setUpdatedAt(updatedAt);
+            return item;
+        }
+    }
+
+    /**
+     * An unflushed change to one line: optionally drop the stored row first ({@code replaces}), then
+     * add {@code added} units at {@code price}.
+     */
+    private record LineChange(String productId, boolean replaces, int added, Money price,
+                              LocalDateTime createdAt, LocalDateTime updatedAt) {
+
+        static LineChange addition(String productId, int quantity, Money price, LocalDateTime now) {
+            return new LineChange(productId, false, quantity, price, now, now);
+        }
+
+        static LineChange removal(String productId, LocalDateTime now) {
+            return new LineChange(productId, true, 0, null, now, now);
+        }
+
+        LineChange then(LineChange next) {
+            if (next.replaces()) {
+                return next;
+            }
+            return new LineChange(productId, replaces, added + next.added(), next.price(), createdAt, next.updatedAt());
+        }
+    }
+
+    public record Addition(String productId, int quantity, Money price) {
+    }
+
+    private record CartChanges(String userId, List<LineChange> lines) {
+    }
+}
@@ -0,0 +1,204 @@
+package com.ecommerce.order.client;
+
+import com.ecommerce.order.config.ProductClientProperties;
+import com.ecommerce.order.dto.ProductResponse;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Looks up products in product-service. Concurrent lookups arriving within the batch window are
+ * coalesced into a single {@code POST /api/products/batch} call, and results are kept in a short-TTL
+ * local cache so repeated cart writes for the same product skip the network entirely.
+ *
+ * <p>With {@code spring.threads.virtual.enabled} the batch calls are sent from virtual threads; the
+ * scheduler only fires batch windows and stays on a single platform thread.
+ */
+@Component
+public class ProductLookupClient {
+
+    private static final ParameterizedTypeReference<List<ProductResponse>> PRODUCT_LIST =
+            new ParameterizedTypeReference<>() {};
+
+    private final RestClient restClient;
+    private final ProductClientProperties properties;
+    private final ScheduledExecutorService scheduler;
+    private final ExecutorService sender;
+    private final ConcurrentHashMap<Long, CachedProduct> cache = new ConcurrentHashMap<>();
+
+    private final Object lock = new Object();
+    private Map<Long, CompletableFuture<Optional<ProductResponse>>> pending = new HashMap<>();
+
+    public ProductLookupClient(RestClient.Builder restClientBuilder, ProductClientProperties properties,
+                               @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(properties.getTimeout());
+        requestFactory.setReadTimeout(properties.getTimeout());
+        this.restClient = restClientBuilder
+                .baseUrl(properties.getBaseUrl())
+                .requestFactory(requestFactory)
+                .build();
+        this.properties = properties;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(daemon("product-lookup-scheduler"));
+        this.sender = virtualThreads
+                ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("product-lookup-sender-", 0).factory())
+                : Executors.newCachedThreadPool(daemon("product-lookup-sender"));
+    }
+
+    public Optional<ProductResponse> getProduct(String productId) {
+        try {
+            return lookup(productId).get(properties.getTimeout().toMillis() * 2, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while looking up product " + productId, e);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new IllegalStateException("Product service unavailable for product " + productId, e);
+        }
+    }
+
+    /**
+     * Looks up several products at once; the lookups share one deadline and are coalesced into as few
+     * batch calls as the batch size allows.
+     */
+    public Map<String, Optional<ProductResponse>> getProducts(Collection<String> productIds) {
+        Map<String, CompletableFuture<Optional<ProductResponse>>> futures = new LinkedHashMap<>();
+        productIds.forEach(productId -> futures.computeIfAbsent(productId, this::lookup));
+        try {
+            CompletableFuture.allOf(futures.values().toArray(CompletableFuture[]::new))
+                    .get(properties.getTimeout().toMillis() * 2, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while looking up products", e);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new IllegalStateException("Product service unavailable for products " + futures.keySet(), e);
+        }
+        Map<String, Optional<ProductResponse>> products = new LinkedHashMap<>();
+        futures.forEach((productId, future) -> products.put(productId, future.join()));
+        return products;
+    }
+
+    public CompletableFuture<Optional<ProductResponse>> lookup(String productId) {
+        Long id = parseId(productId);
+        if (id == null) {
+            return CompletableFuture.completedFuture(Optional.empty());
+        }
+        CachedProduct cached = cache.get(id);
+        if (cached != null && !cached.isExpired()) {
+            return CompletableFuture.completedFuture(Optional.of(cached.product()));
+        }
+
+        Map<Long, CompletableFuture<Optional<ProductResponse>>> fullBatch = null;
+        CompletableFuture<Optional<ProductResponse>> future;
+        synchronized (lock) {
+            future = pending.get(id);
+            if (future != null) {
+                return future;
+            }
+            future = new CompletableFuture<>();
+            pending.put(id, future);
+            if (pending.size() >= properties.getMaxBatchSize()) {
+                fullBatch = drainPending();
+            } else if (pending.size() == 1) {
+                scheduler.schedule(this::flush, properties.getBatchWindow().toNanos(), TimeUnit.NANOSECONDS);
+            }
+        }
+        if (fullBatch != null) {
+            dispatch(fullBatch);
+        }
+        return future;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+        sender.shutdownNow();
+    }
+
+    private void flush() {
+        Map<Long, CompletableFuture<Optional<ProductResponse>>> batch;
+        synchronized (lock) {
+            batch = drainPending();
+        }
+        if (!batch.isEmpty()) {
+            dispatch(batch);
+        }
+    }
+
+    private Map<Long, CompletableFuture<Optional<ProductResponse>>> drainPending() {
+        Map<Long, CompletableFuture<Optional<ProductResponse>>> batch = pending;
+        pending = new HashMap<>();
+        return batch;
+    }
+
+    private void dispatch(Map<Long, CompletableFuture<Optional<ProductResponse>>> batch) {
+        try {
+            sender.execute(() -> send(batch));
+        } catch (RejectedExecutionException e) {
+            batch.values().forEach(future -> future.completeExceptionally(e));
+        }
+    }
+
+    private void send(Map<Long, CompletableFuture<Optional<ProductResponse>>> batch) {
+        try {
+            List<ProductResponse> products = restClient.post()
+                    .uri("/api/products/batch")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(batch.keySet())
+                    .retrieve()
+                    .body(PRODUCT_LIST);
+
+            Map<Long, ProductResponse> byId = new HashMap<>();
+            if (products != null) {
+                products.stream()
+                        .filter(product -> Boolean.TRUE.equals(product.getActive()))
+                        .forEach(product -> byId.put(product.getId(), product));
+            }
+            byId.values().forEach(this::cache);
+            batch.forEach((id, future) -> future.complete(Optional.ofNullable(byId.get(id))));
+        } catch (RuntimeException e) {
+            batch.values().forEach(future -> future.completeExceptionally(e));
+        }
+    }
+
+    private void cache(ProductResponse product) {
+        if (cache.size() >= properties.getCacheMaxEntries()) {
+            cache.values().removeIf(CachedProduct::isExpired);
+            if (cache.size() >= properties.getCacheMaxEntries()) {
+                cache.clear();
+            }
+        }
+        cache.put(product.getId(), new CachedProduct(product, System.nanoTime() + properties.getCacheTtl().toNanos()));
+    }
+
+    private static Long parseId(String productId) {
+        if (productId == null) {
+            return null;
+        }
+        try {
+            return Long.valueOf(productId);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static ThreadFactory daemon(String name) {
+        return runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private record CachedProduct(ProductResponse product, long expiresAtNanos) {
+        boolean isExpired() {
+            return System.nanoTime() - expiresAtNanos > 0;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.ecommerce.order.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "order.cart")
+public class CartStoreProperties {
+    private Durability durability = Durability.WRITE_BEHIND;
+    private int shards = 64;
+    private int flushThreshold = 1_000;
+    private int flushBatchSize = 500;
+    private Duration idleTimeout = Duration.ofMinutes(30);
+    private int maxBulkItems = 200;
+
+    public enum Durability {
+        /** Every cart write is flushed to cart_item before the call returns. */
+        WRITE_THROUGH,
+        /** Cart writes land in memory and reach cart_item on the next periodic or size-triggered flush. */
+        WRITE_BEHIND
+    }
+}
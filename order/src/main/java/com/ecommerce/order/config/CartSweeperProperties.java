@@ -0,0 +1,16 @@
+package com.ecommerce.order.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "order.cart.sweeper")
+public class CartSweeperProperties {
+    private boolean enabled = true;
+    private Duration ttl = Duration.ofDays(7);
+    private int batchSize = 500;
+    private int maxBatchesPerRun = 200;
+    private Duration pauseBetweenBatches = Duration.ofMillis(100);
+}
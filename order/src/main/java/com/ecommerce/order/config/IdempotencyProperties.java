@@ -0,0 +1,15 @@
+package com.ecommerce.order.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "order.idempotency")
+public class IdempotencyProperties {
+    private long cacheMaxSize = 10_000;
+    private Duration cacheTtl = Duration.ofMinutes(10);
+    private Duration retention = Duration.ofHours(24);
+    private int maxKeyLength = 255;
+}
@@ -0,0 +1,11 @@
+package com.ecommerce.order.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "order.history")
+public class OrderHistoryProperties {
+    private int pageSize = 20;
+    private int maxPageSize = 100;
+}
@@ -0,0 +1,11 @@
+package com.ecommerce.order.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "order.transitions")
+public class OrderTransitionProperties {
+    private int maxOrdersPerRequest = 50_000;
+    private int chunkSize = 5_000;
+}
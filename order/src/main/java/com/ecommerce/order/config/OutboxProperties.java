@@ -0,0 +1,17 @@
+package com.ecommerce.order.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "order.outbox")
+public class OutboxProperties {
+    private int batchSize = 100;
+    private int maxBatchesPerRun = 10;
+    private Duration retention = Duration.ofDays(7);
+    private int maxAttempts = 10;
+    private Duration retryBackoff = Duration.ofSeconds(1);
+    private Duration maxRetryBackoff = Duration.ofMinutes(5);
+}
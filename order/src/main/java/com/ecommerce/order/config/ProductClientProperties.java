@@ -0,0 +1,17 @@
+package com.ecommerce.order.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "order.product-client")
+public class ProductClientProperties {
+    private String baseUrl = "http://localhost:8081";
+    private Duration batchWindow = Duration.ofMillis(2);
+    private int maxBatchSize = 100;
+    private Duration cacheTtl = Duration.ofSeconds(5);
+    private int cacheMaxEntries = 10_000;
+    private Duration timeout = Duration.ofSeconds(2);
+}
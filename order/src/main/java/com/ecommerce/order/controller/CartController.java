@@ -1,6 +1,9 @@
 package com.ecommerce.order.controller;
 
+import com.ecommerce.order.cart.AbandonedCartSweeper;
+import com.ecommerce.order.dto.CartBulkResponse;
 import com.ecommerce.order.dto.CartItemRequest;
+import com.ecommerce.order.dto.CartSweepStats;
 import com.ecommerce.order.model.CartItem;
 import com.ecommerce.order.service.CartService;
 import lombok.RequiredArgsConstructor;
@@ -15,6 +18,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public class CartController {
     private final CartService cartService;
+    private final AbandonedCartSweeper abandonedCartSweeper;
     @PostMapping
     public ResponseEntity<String> addToCart(
             @RequestHeader("X-User-ID") String userId,
@@ -25,6 +29,13 @@ public class CartController {
         return ResponseEntity.status(HttpStatus.CREATED).build();
     }
 
+    @PostMapping("/items")
+    public ResponseEntity<CartBulkResponse> addAllToCart(
+            @RequestHeader("X-User-ID") String userId,
+            @RequestBody List<CartItemRequest> requests) {
+        return ResponseEntity.ok(cartService.addAllToCart(userId, requests));
+    }
+
     @GetMapping
     public ResponseEntity<List<CartItem>> getCart(@RequestHeader("X-User-ID") String userId){
         return ResponseEntity.ok(cartService.getCart(userId));
@@ -40,4 +51,14 @@ public class CartController {
         return deleted ? ResponseEntity.noContent().build() : ResponseEntity.notFound().build();
 
     }
-}
\ No newline at end of file
+
+    @GetMapping("/sweeper/stats")
+    public ResponseEntity<CartSweepStats> getSweeperStats(){
+        return ResponseEntity.ok(abandonedCartSweeper.stats());
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> handleInvalidRequest(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(e.getMessage());
+    }
+}
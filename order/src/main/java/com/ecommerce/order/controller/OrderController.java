@@ -1,13 +1,22 @@
 package com.ecommerce.order.controller;
 
+import com.ecommerce.order.dto.OrderPage;
 import com.ecommerce.order.dto.OrderResponse;
+import com.ecommerce.order.dto.OrderTransitionRequest;
+import com.ecommerce.order.dto.OrderTransitionResponse;
 import com.ecommerce.order.service.OrderService;
+import com.ecommerce.order.service.OrderTransitionService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -16,9 +25,36 @@ import org.springframework.web.bind.annotation.RestController;
 public class OrderController {
 
     private final OrderService orderService;
+    private final OrderTransitionService orderTransitionService;
+
+    @GetMapping
+    public ResponseEntity<OrderPage> getOrders(@RequestHeader("X-User-ID") String userId,
+                                               @RequestParam(required = false) String cursor,
+                                               @RequestParam(required = false) Integer size){
+        return ResponseEntity.ok(orderService.getOrders(userId, cursor, size));
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<OrderResponse> getOrder(@RequestHeader("X-User-ID") String userId,
+                                                  @PathVariable Long id){
+        return orderService.getOrder(userId, id)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
 
     @PostMapping
-    public ResponseEntity<OrderResponse> createOrder(@RequestHeader("X-User-ID") String userId){
-        return orderService.createOrder(userId).map(orderResponse -> new ResponseEntity<>(orderResponse,HttpStatus.CREATED)).orElseGet(()->ResponseEntity.badRequest().build());
+    public ResponseEntity<OrderResponse> createOrder(@RequestHeader("X-User-ID") String userId,
+                                                     @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey){
+        return orderService.createOrder(userId, idempotencyKey).map(orderResponse -> new ResponseEntity<>(orderResponse,HttpStatus.CREATED)).orElseGet(()->ResponseEntity.badRequest().build());
+    }
+
+    @PostMapping("/transitions")
+    public ResponseEntity<OrderTransitionResponse> transitionOrders(@RequestBody OrderTransitionRequest request){
+        return ResponseEntity.ok(orderTransitionService.transition(request));
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> handleInvalidRequest(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(e.getMessage());
     }
 }
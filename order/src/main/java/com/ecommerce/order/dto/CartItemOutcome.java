@@ -0,0 +1,5 @@
+package com.ecommerce.order.dto;
+
+public enum CartItemOutcome {
+    ADDED, INVALID_REQUEST, PRODUCT_NOT_FOUND, OUT_OF_STOCK;
+}
@@ -0,0 +1,14 @@
+package com.ecommerce.order.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class CartItemResult {
+    private String productId;
+    private Integer quantity;
+    private CartItemOutcome outcome;
+}
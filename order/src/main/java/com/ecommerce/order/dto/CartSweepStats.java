@@ -0,0 +1,18 @@
+package com.ecommerce.order.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+@AllArgsConstructor
+public class CartSweepStats {
+    private long runs;
+    private long rowsSwept;
+    private long cartsSwept;
+    private long totalTimeMillis;
+    private long lastRunRowsSwept;
+    private long lastRunTimeMillis;
+    private LocalDateTime lastRunAt;
+}
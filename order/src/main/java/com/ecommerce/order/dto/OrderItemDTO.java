@@ -1,15 +1,17 @@
 package com.ecommerce.order.dto;
 
+import com.ecommerce.order.model.Money;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
-import java.math.BigDecimal;
 @AllArgsConstructor
+@NoArgsConstructor
 @Data
 public class OrderItemDTO {
     private Long id;
     private String productId;
     private Integer quantity;
-    private BigDecimal price;
-    private BigDecimal subTotal;
+    private Money price;
+    private Money subTotal;
 }
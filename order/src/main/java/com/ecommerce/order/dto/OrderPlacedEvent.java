@@ -0,0 +1,20 @@
+package com.ecommerce.order.dto;
+
+import com.ecommerce.order.model.Money;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class OrderPlacedEvent {
+    private Long orderId;
+    private String userId;
+    private Money totalAmount;
+    private List<OrderItemDTO> items;
+    private LocalDateTime createdAt;
+}
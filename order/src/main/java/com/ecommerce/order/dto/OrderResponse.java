@@ -1,18 +1,20 @@
 package com.ecommerce.order.dto;
 
+import com.ecommerce.order.model.Money;
 import com.ecommerce.order.model.OrderStatus;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 
 @Data
 @AllArgsConstructor
+@NoArgsConstructor
 public class OrderResponse {
     private Long id;
-    private BigDecimal totalAmount;
+    private Money totalAmount;
     private OrderStatus status;
     private List<OrderItemDTO> items;
     private LocalDateTime createdAt;
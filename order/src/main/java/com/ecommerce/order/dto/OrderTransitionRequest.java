@@ -0,0 +1,12 @@
+package com.ecommerce.order.dto;
+
+import com.ecommerce.order.model.OrderStatus;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class OrderTransitionRequest {
+    private List<Long> orderIds;
+    private OrderStatus targetStatus;
+}
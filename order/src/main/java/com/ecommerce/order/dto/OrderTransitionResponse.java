@@ -0,0 +1,17 @@
+package com.ecommerce.order.dto;
+
+import com.ecommerce.order.model.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class OrderTransitionResponse {
+    private OrderStatus targetStatus;
+    private int transitioned;
+    private List<OrderTransitionResult> results;
+}
@@ -0,0 +1,15 @@
+package com.ecommerce.order.dto;
+
+import com.ecommerce.order.model.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class OrderTransitionResult {
+    private Long orderId;
+    private OrderStatus previousStatus;
+    private TransitionOutcome outcome;
+}
@@ -0,0 +1,14 @@
+package com.ecommerce.order.dto;
+
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+@Data
+public class ProductResponse {
+    private Long id;
+    private String name;
+    private BigDecimal price;
+    private Integer stockQuantity;
+    private Boolean active;
+}
@@ -0,0 +1,5 @@
+package com.ecommerce.order.dto;
+
+public enum TransitionOutcome {
+    TRANSITIONED, ALREADY_IN_STATUS, INVALID_TRANSITION, NOT_FOUND;
+}
@@ -6,10 +6,12 @@ import lombok.NoArgsConstructor;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
+@Table(name = "cart_item",
+        uniqueConstraints = @UniqueConstraint(name = "uk_cart_item_user_product", columnNames = {"user_id", "product_id"}),
+        indexes = @Index(name = "idx_cart_item_updated_at_id", columnList = "updated_at, id"))
 @Data
 @NoArgsConstructor
 public class CartItem {
@@ -20,7 +22,7 @@ public class CartItem {
     private String productId;
 
     private Integer quantity;
-    private BigDecimal price;
+    private Money price;
     @CreationTimestamp
     private LocalDateTime createdAt;
     @UpdateTimestamp
@@ -0,0 +1,97 @@
+package com.ecommerce.order.model;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * An amount of money held as a {@code long} count of cents. The store prices everything in a single
+ * currency (USD), so no currency is carried: every amount, column and JSON value is in that currency.
+ *
+ * <p>Arithmetic is exact: sums and products use {@link Math#addExact}/{@link Math#multiplyExact} and
+ * throw {@link ArithmeticException} on overflow rather than wrapping. Rounding only happens when a
+ * decimal amount enters the type, and then always half-even to two decimal places. Amounts cross the
+ * JSON and database boundaries as plain decimals, so the wire and column formats are unchanged.
+ */
+public final class Money {
+
+    private static final int SCALE = 2;
+
+    public static final Money ZERO = new Money(0L);
+
+    private final long cents;
+
+    private Money(long cents) {
+        this.cents = cents;
+    }
+
+    public static Money ofMinor(long cents) {
+        return new Money(cents);
+    }
+
+    /**
+     * Converts a decimal amount, rounding half-even to whole cents.
+     *
+     * @throws IllegalArgumentException if the amount is null
+     */
+    @JsonCreator
+    public static Money of(BigDecimal amount) {
+        if (amount == null) {
+            throw new IllegalArgumentException("Amount must not be null");
+        }
+        return new Money(amount.setScale(SCALE, RoundingMode.HALF_EVEN).unscaledValue().longValueExact());
+    }
+
+    /**
+     * Totals {@code price * quantity} over the items with primitive arithmetic; only the result is
+     * allocated.
+     *
+     * @throws IllegalArgumentException if an item has no price
+     */
+    public static <T> Money total(Iterable<T> items, Function<T, Money> price, ToIntFunction<T> quantity) {
+        long total = 0L;
+        for (T item : items) {
+            Money unitPrice = price.apply(item);
+            if (unitPrice == null) {
+                throw new IllegalArgumentException("Cannot total an item without a price: " + item);
+            }
+            total = Math.addExact(total, Math.multiplyExact(unitPrice.cents, (long) quantity.applyAsInt(item)));
+        }
+        return new Money(total);
+    }
+
+    public Money plus(Money other) {
+        return new Money(Math.addExact(cents, other.cents));
+    }
+
+    public Money times(int quantity) {
+        return new Money(Math.multiplyExact(cents, (long) quantity));
+    }
+
+    @JsonValue
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(cents, SCALE);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof Money other && cents == other.cents;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(cents);
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString();
+    }
+}
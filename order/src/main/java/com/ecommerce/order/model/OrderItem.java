@@ -5,19 +5,20 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
-import java.math.BigDecimal;
 @Entity
+@Table(indexes = @Index(name = "idx_order_item_order_id", columnList = "order_id"))
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
 public class OrderItem {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_item_seq")
+    @SequenceGenerator(name = "order_item_seq", sequenceName = "order_item_seq", allocationSize = 50)
     private Long id;
     private String productId;
 
     private Integer quantity;
-    private BigDecimal price;
+    private Money price;
     @ManyToOne
     @JoinColumn(name = "order_id", nullable = false)
     private Order order;
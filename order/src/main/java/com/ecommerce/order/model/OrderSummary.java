@@ -0,0 +1,54 @@
+package com.ecommerce.order.model;
+
+import com.ecommerce.order.dto.OrderItemDTO;
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Read model of an order, written alongside the {@link Order} aggregate. Item lines and totals are
+ * stored precomputed so order detail reads never hydrate the entity graph.
+ */
+@Entity
+@Table(name = "order_summaries",
+        indexes = @Index(name = "idx_order_summaries_user_id", columnList = "user_id"))
+@Data
+@NoArgsConstructor
+public class OrderSummary implements Persistable<Long> {
+    @Id
+    private Long orderId;
+    private String userId;
+    @Enumerated(EnumType.STRING)
+    private OrderStatus status;
+    private Money totalAmount;
+    private int itemCount;
+    @JdbcTypeCode(SqlTypes.JSON)
+    private List<OrderItemDTO> items;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    @Transient
+    private boolean newSummary = true;
+
+    @Override
+    public Long getId() {
+        return orderId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newSummary;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        newSummary = false;
+    }
+}
@@ -0,0 +1,33 @@
+package com.ecommerce.order.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "outbox_events",
+        indexes = @Index(name = "idx_outbox_events_published_at_id", columnList = "published_at, id"))
+@Data
+@NoArgsConstructor
+public class OutboxEvent {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_events_seq")
+    @SequenceGenerator(name = "outbox_events_seq", sequenceName = "outbox_events_seq", allocationSize = 50)
+    private Long id;
+    private String aggregateType;
+    private String aggregateId;
+    private String eventType;
+    @Column(columnDefinition = "text")
+    private String payload;
+    @CreationTimestamp
+    private LocalDateTime createdAt;
+    private LocalDateTime publishedAt;
+    private int attempts;
+    private LocalDateTime nextAttemptAt;
+    private LocalDateTime parkedAt;
+    @Column(columnDefinition = "text")
+    private String lastError;
+}
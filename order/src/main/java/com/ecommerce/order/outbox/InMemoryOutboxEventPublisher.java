@@ -0,0 +1,36 @@
+package com.ecommerce.order.outbox;
+
+import com.ecommerce.order.model.OutboxEvent;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Keeps published events in memory so tests can observe what the relay delivered. Nothing leaves the
+ * process and nothing is dropped until {@link #clear()}, so it is only registered when
+ * {@code order.outbox.publisher=in-memory} is set explicitly.
+ */
+@Slf4j
+public class InMemoryOutboxEventPublisher implements OutboxEventPublisher {
+
+    private final Queue<OutboxEvent> published = new ConcurrentLinkedQueue<>();
+
+    public InMemoryOutboxEventPublisher() {
+        log.warn("Outbox events are kept in memory and not delivered to any consumer");
+    }
+
+    @Override
+    public void publish(OutboxEvent event) {
+        published.add(event);
+    }
+
+    public List<OutboxEvent> getPublished() {
+        return List.copyOf(published);
+    }
+
+    public void clear() {
+        published.clear();
+    }
+}
@@ -0,0 +1,21 @@
+package com.ecommerce.order.outbox;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * There is no default {@link OutboxEventPublisher}: without a real one the relay cannot be created and
+ * the service fails to start, rather than marking events published that nobody received. Setting
+ * {@code order.outbox.publisher=in-memory} opts into {@link InMemoryOutboxEventPublisher} for tests
+ * and local runs.
+ */
+@Configuration
+public class OutboxConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "order.outbox", name = "publisher", havingValue = "in-memory")
+    public InMemoryOutboxEventPublisher inMemoryOutboxEventPublisher() {
+        return new InMemoryOutboxEventPublisher();
+    }
+}
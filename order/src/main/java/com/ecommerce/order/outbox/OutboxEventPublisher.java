@@ -0,0 +1,12 @@
+package com.ecommerce.order.outbox;
+
+import com.ecommerce.order.model.OutboxEvent;
+
+/**
+ * Delivers outbox events to downstream consumers. Called by {@link OutboxRelay} in id order; throwing
+ * schedules the event for a later retry with exponential backoff and parks it once its attempts run
+ * out, so implementations must tolerate redelivery.
+ */
+public interface OutboxEventPublisher {
+    void publish(OutboxEvent event);
+}
@@ -0,0 +1,113 @@
+package com.ecommerce.order.outbox;
+
+import com.ecommerce.order.config.OutboxProperties;
+import com.ecommerce.order.model.OutboxEvent;
+import com.ecommerce.order.repository.OutboxEventRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Drains the outbox in the background so checkout never waits on downstream consumers. Each batch is
+ * locked with {@code FOR UPDATE SKIP LOCKED}, so several instances can relay side by side without
+ * publishing the same event twice. Delivery is at-least-once.
+ *
+ * <p>An event that fails to publish is retried with exponential backoff and skipped until it is due,
+ * so it never blocks the events behind it. After {@code order.outbox.max-attempts} failures it is
+ * parked and left for an operator.
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxEventPublisher publisher;
+    private final OutboxProperties properties;
+    private final TransactionTemplate transactionTemplate;
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       OutboxEventPublisher publisher,
+                       OutboxProperties properties,
+                       TransactionTemplate transactionTemplate) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.publisher = publisher;
+        this.properties = properties;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @Scheduled(initialDelayString = "${order.outbox.poll-interval:PT1S}",
+            fixedDelayString = "${order.outbox.poll-interval:PT1S}")
+    public void relay() {
+        int total = 0;
+        for (int batch = 0; batch < properties.getMaxBatchesPerRun(); batch++) {
+            BatchResult result = transactionTemplate.execute(status -> relayBatch());
+            if (result == null) {
+                break;
+            }
+            total += result.published();
+            if (result.failed() || result.locked() < properties.getBatchSize()) {
+                break;
+            }
+        }
+        if (total > 0) {
+            log.debug("Relayed {} outbox events", total);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${order.outbox.purge-interval:PT1H}")
+    public void purgePublished() {
+        Integer purged = transactionTemplate.execute(status ->
+                outboxEventRepository.deletePublishedBefore(LocalDateTime.now().minus(properties.getRetention())));
+        if (purged != null && purged > 0) {
+            log.info("Purged {} published outbox events", purged);
+        }
+    }
+
+    private BatchResult relayBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxEvent> events = outboxEventRepository.lockUnpublished(now, properties.getBatchSize());
+        List<Long> published = new ArrayList<>(events.size());
+        boolean failed = false;
+        for (OutboxEvent event : events) {
+            try {
+                publisher.publish(event);
+                published.add(event.getId());
+            } catch (RuntimeException e) {
+                recordFailure(event, e, now);
+                failed = true;
+            }
+        }
+        if (!published.isEmpty()) {
+            outboxEventRepository.markPublished(published, now);
+        }
+        return new BatchResult(events.size(), published.size(), failed);
+    }
+
+    private void recordFailure(OutboxEvent event, RuntimeException e, LocalDateTime now) {
+        int attempts = event.getAttempts() + 1;
+        if (attempts >= properties.getMaxAttempts()) {
+            log.error("Parking outbox event {} ({}) after {} failed attempts",
+                    event.getId(), event.getEventType(), attempts, e);
+            outboxEventRepository.markParked(event.getId(), e.getMessage(), now);
+            return;
+        }
+        Duration backoff = backoff(attempts);
+        log.warn("Failed to publish outbox event {} ({}), attempt {}; retrying in {}",
+                event.getId(), event.getEventType(), attempts, backoff, e);
+        outboxEventRepository.markFailed(event.getId(), e.getMessage(), now.plus(backoff));
+    }
+
+    private Duration backoff(int attempts) {
+        Duration backoff = properties.getRetryBackoff().multipliedBy(1L << Math.min(attempts - 1, 30));
+        return backoff.compareTo(properties.getMaxRetryBackoff()) > 0 ? properties.getMaxRetryBackoff() : backoff;
+    }
+
+    private record BatchResult(int locked, int published, boolean failed) {
+    }
+}
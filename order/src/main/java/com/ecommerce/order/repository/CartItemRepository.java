@@ -8,10 +8,6 @@ import java.util.List;
 
 @Repository
 public interface CartItemRepository extends JpaRepository<CartItem, Long> {
-    CartItem findByUserIdAndProductId(String userId, String productId);
-
-    void deleteByUserIdAndProductId(String userId, String productId);
-
     List<CartItem> findByUserId(String userId);
 
     void deleteByUserId(String userId);
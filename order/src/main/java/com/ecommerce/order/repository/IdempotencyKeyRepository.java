@@ -0,0 +1,35 @@
+package com.ecommerce.order.repository;
+
+import com.ecommerce.order.model.IdempotencyKey;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface IdempotencyKeyRepository extends JpaRepository<IdempotencyKey, Long> {
+    Optional<IdempotencyKey> findByUserIdAndIdempotencyKey(String userId, String idempotencyKey);
+
+    @Modifying
+    @Query(value = "INSERT INTO idempotency_keys (user_id, idempotency_key, created_at) " +
+            "VALUES (:userId, :key, now()) " +
+            "ON CONFLICT (user_id, idempotency_key) DO NOTHING",
+            nativeQuery = true)
+    int claim(@Param("userId") String userId, @Param("key") String key);
+
+    @Modifying
+    @Query("UPDATE IdempotencyKey k SET k.orderId = :orderId, k.responseBody = :responseBody " +
+            "WHERE k.userId = :userId AND k.idempotencyKey = :key")
+    int storeResponse(@Param("userId") String userId,
+                      @Param("key") String key,
+                      @Param("orderId") Long orderId,
+                      @Param("responseBody") String responseBody);
+
+    @Modifying
+    @Query("DELETE FROM IdempotencyKey k WHERE k.createdAt < :cutoff")
+    int deleteByCreatedAtBefore(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -1,10 +1,53 @@
 package com.ecommerce.order.repository;
 
 import com.ecommerce.order.model.Order;
+import com.ecommerce.order.model.OrderStatus;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface OrderRepository extends JpaRepository<Order, Long> {
 
+    List<Order> findByUserIdOrderByCreatedAtDescIdDesc(String userId, Limit limit);
+
+    @Query("SELECT o FROM orders o WHERE o.userId = :userId " +
+            "AND (o.createdAt < :createdAt OR (o.createdAt = :createdAt AND o.id < :id)) " +
+            "ORDER BY o.createdAt DESC, o.id DESC")
+    List<Order> findByUserIdBefore(@Param("userId") String userId,
+                                   @Param("createdAt") LocalDateTime createdAt,
+                                   @Param("id") Long id,
+                                   Limit limit);
+
+    @EntityGraph(attributePaths = "items")
+    List<Order> findWithItemsByIdIn(Collection<Long> ids);
+
+    /**
+     * Reads and row-locks the current status of the given orders without loading the entities. Rows
+     * are locked in id order so concurrent bulk transitions cannot deadlock.
+     */
+    @Query(value = "SELECT id AS id, status AS status FROM orders WHERE id IN (:ids) ORDER BY id FOR UPDATE",
+            nativeQuery = true)
+    List<StatusView> lockStatuses(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("UPDATE orders o SET o.status = :to, o.updatedAt = LOCAL DATETIME " +
+            "WHERE o.id IN :ids AND o.status = :from")
+    int transition(@Param("ids") Collection<Long> ids,
+                   @Param("from") OrderStatus from,
+                   @Param("to") OrderStatus to);
+
+    interface StatusView {
+        Long getId();
+
+        String getStatus();
+    }
 }
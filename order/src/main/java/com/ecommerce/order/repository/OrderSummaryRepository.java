@@ -0,0 +1,42 @@
+package com.ecommerce.order.repository;
+
+import com.ecommerce.order.dto.OrderResponse;
+import com.ecommerce.order.model.OrderStatus;
+import com.ecommerce.order.model.OrderSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.Optional;
+
+@Repository
+public interface OrderSummaryRepository extends JpaRepository<OrderSummary, Long> {
+
+    @Query("SELECT new com.ecommerce.order.dto.OrderResponse(s.orderId, s.totalAmount, s.status, s.items, s.createdAt) " +
+            "FROM OrderSummary s WHERE s.orderId = :orderId AND s.userId = :userId")
+    Optional<OrderResponse> findResponse(@Param("orderId") Long orderId, @Param("userId") String userId);
+
+    @Modifying
+    @Query("UPDATE OrderSummary s SET s.status = :to, s.updatedAt = LOCAL DATETIME " +
+            "WHERE s.orderId IN :orderIds AND s.status = :from")
+    int transition(@Param("orderIds") Collection<Long> orderIds,
+                   @Param("from") OrderStatus from,
+                   @Param("to") OrderStatus to);
+
+    @Modifying
+    @Query(value = "INSERT INTO order_summaries " +
+            "(order_id, user_id, status, total_amount, item_count, items, created_at, updated_at) " +
+            "SELECT o.id, o.user_id, o.status, o.total_amount, COUNT(i.id), " +
+            "COALESCE(jsonb_agg(jsonb_build_object('id', i.id, 'productId', i.product_id, " +
+            "'quantity', i.quantity, 'price', i.price, 'subTotal', i.price * i.quantity) ORDER BY i.id) " +
+            "FILTER (WHERE i.id IS NOT NULL), '[]'::jsonb), o.created_at, o.updated_at " +
+            "FROM orders o LEFT JOIN order_item i ON i.order_id = o.id " +
+            "WHERE NOT EXISTS (SELECT 1 FROM order_summaries s WHERE s.order_id = o.id) " +
+            "GROUP BY o.id " +
+            "ON CONFLICT (order_id) DO NOTHING",
+            nativeQuery = true)
+    int backfillMissing();
+}
@@ -1,70 +1,148 @@
 package com.ecommerce.order.service;
 
+import com.ecommerce.order.cart.CartStore;
+import com.ecommerce.order.client.ProductLookupClient;
+import com.ecommerce.order.config.CartStoreProperties;
+import com.ecommerce.order.dto.CartBulkResponse;
+import com.ecommerce.order.dto.CartItemOutcome;
 import com.ecommerce.order.dto.CartItemRequest;
+import com.ecommerce.order.dto.CartItemResult;
+import com.ecommerce.order.dto.ProductResponse;
 import com.ecommerce.order.model.CartItem;
+import com.ecommerce.order.model.Money;
 import com.ecommerce.order.repository.CartItemRepository;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
-import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
-@Transactional
 public class CartService {
 
     private final CartItemRepository cartItemRepository;
+    private final ProductLookupClient productLookupClient;
+    private final CartStore cartStore;
+    private final CartStoreProperties cartStoreProperties;
 
 
 
     public boolean addToCart(String userId, CartItemRequest request) {
-//        Optional<Product> productOpt = productRepository.findById(request.getProductId());
-//        if (productOpt.isEmpty())
-//            return false;
-//
-//        Product product = productOpt.get();
-//        if (product.getStockQuantity() < request.getQuantity())
-//            return false;
-//
+        Optional<ProductResponse> productOpt = productLookupClient.getProduct(request.getProductId());
+        if (productOpt.isEmpty())
+            return false;
+
+        ProductResponse product = productOpt.get();
+        if (product.getStockQuantity() == null || product.getStockQuantity() < request.getQuantity())
+            return false;
+
 //        Optional<User> userOpt = userRepository.findById(Long.valueOf(userId));
 //        if (userOpt.isEmpty())
 //            return false;
 //
 //        User user = userOpt.get();
 
-        CartItem existingCartItem = cartItemRepository.findByUserIdAndProductId(userId,request.getProductId());
-
-        if (existingCartItem != null) {
-            existingCartItem.setQuantity(existingCartItem.getQuantity() + request.getQuantity());
-            existingCartItem.setPrice(BigDecimal.valueOf(1000.00));
-            cartItemRepository.save(existingCartItem);
-        } else {
-            CartItem cartItem = new CartItem();
-            cartItem.setUserId(userId);
-            cartItem.setProductId(request.getProductId());
-            cartItem.setQuantity(request.getQuantity());
-            cartItem.setPrice(BigDecimal.valueOf(1000.00));
-            cartItemRepository.save(cartItem);
-        }
+        cartStore.add(userId, request.getProductId(), request.getQuantity(), Money.of(product.getPrice()));
         return true;
     }
 
-    public boolean deleteItemFromCart(String userId, String productId) {
-        CartItem cartItem = cartItemRepository.findByUserIdAndProductId(userId, productId);
-        if(cartItem!=null){
-            cartItemRepository.delete(cartItem);
-            return true;
+    /**
+     * Adds several items in one go: products are looked up together, each item is validated on its
+     * own, and the valid ones are applied to the cart as a single change. Items repeating a product are
+     * checked against the stock left after the earlier items for that product.
+     */
+    public CartBulkResponse addAllToCart(String userId, List<CartItemRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new IllegalArgumentException("At least one item is required");
+        }
+        if (requests.size() > cartStoreProperties.getMaxBulkItems()) {
+            throw new IllegalArgumentException("At most " + cartStoreProperties.getMaxBulkItems()
+                    + " items can be added per request");
+        }
+
+        Map<String, Optional<ProductResponse>> products = productLookupClient.getProducts(requests.stream()
+                .filter(this::isValid)
+                .map(CartItemRequest::getProductId)
+                .toList());
+
+        List<CartItemResult> results = new ArrayList<>(requests.size());
+        List<CartStore.Addition> additions = new ArrayList<>();
+        Map<String, Integer> added = new HashMap<>();
+        for (CartItemRequest request : requests) {
+            CartItemOutcome outcome;
+            if (!isValid(request)) {
+                outcome = CartItemOutcome.INVALID_REQUEST;
+            } else {
+                Optional<ProductResponse> product = products.getOrDefault(request.getProductId(), Optional.empty());
+                if (product.isEmpty()) {
+                    outcome = CartItemOutcome.PRODUCT_NOT_FOUND;
+                } else if (product.get().getStockQuantity() == null
+                        || product.get().getStockQuantity() - added.getOrDefault(request.getProductId(), 0)
+                        < request.getQuantity()) {
+                    outcome = CartItemOutcome.OUT_OF_STOCK;
+                } else {
+                    outcome = CartItemOutcome.ADDED;
+                    added.merge(request.getProductId(), request.getQuantity(), Integer::sum);
+                    additions.add(new CartStore.Addition(request.getProductId(), request.getQuantity(),
+                            Money.of(product.get().getPrice())));
+                }
+            }
+            results.add(new CartItemResult(request == null ? null : request.getProductId(),
+                    request == null ? null : request.getQuantity(), outcome));
         }
 
-        return false;
+        cartStore.addAll(userId, additions);
+        return new CartBulkResponse(additions.size(), results);
+    }
+
+    public boolean deleteItemFromCart(String userId, String productId) {
+        return cartStore.remove(userId, productId);
     }
 
     public List<CartItem> getCart(String userId) {
+        return cartStore.get(userId);
+    }
+
+    /**
+     * Forces any unflushed changes out of the cart store, so checkout prices exactly what the user last
+     * saw. Call it before the checkout transaction starts: the flush uses its own connection.
+     */
+    public void flushCart(String userId) {
+        cartStore.flush(userId);
+    }
+
+    /**
+     * Reads the cart from cart_item; callers flush it with {@link #flushCart} first.
+     */
+    @Transactional
+    public List<CartItem> getCartForCheckout(String userId) {
         return cartItemRepository.findByUserId(userId);
     }
+
+    @Transactional
     public void clearCart(String userId) {
         cartItemRepository.deleteByUserId(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cartStore.evict(userId);
+                }
+            });
+        } else {
+            cartStore.evict(userId);
+        }
+    }
+
+    private boolean isValid(CartItemRequest request) {
+        return request != null && request.getProductId() != null
+                && request.getQuantity() != null && request.getQuantity() > 0;
     }
-}
\ No newline at end of file
+}
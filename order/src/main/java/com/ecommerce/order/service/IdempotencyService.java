@@ -0,0 +1,111 @@
+package com.ecommerce.order.service;
+
+import com.ecommerce.order.config.IdempotencyProperties;
+import com.ecommerce.order.dto.OrderResponse;
+import com.ecommerce.order.model.IdempotencyKey;
+import com.ecommerce.order.repository.IdempotencyKeyRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Remembers the response of each checkout per (user, Idempotency-Key). Recent responses are held in
+ * memory; the idempotency_keys table is the durable record and the arbiter between concurrent retries.
+ */
+@Slf4j
+@Service
+public class IdempotencyService {
+
+    private final IdempotencyKeyRepository idempotencyKeyRepository;
+    private final ObjectMapper objectMapper;
+    private final IdempotencyProperties properties;
+    private final Cache<Scope, OrderResponse> recentResponses;
+
+    public IdempotencyService(IdempotencyKeyRepository idempotencyKeyRepository,
+                              ObjectMapper objectMapper,
+                              IdempotencyProperties properties) {
+        this.idempotencyKeyRepository = idempotencyKeyRepository;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.recentResponses = Caffeine.newBuilder()
+                .maximumSize(properties.getCacheMaxSize())
+                .expireAfterWrite(properties.getCacheTtl())
+                .build();
+    }
+
+    public void validate(String key) {
+        if (key.isBlank() || key.length() > properties.getMaxKeyLength()) {
+            throw new IllegalArgumentException("Idempotency-Key must be 1-" + properties.getMaxKeyLength() + " characters");
+        }
+    }
+
+    public Optional<OrderResponse> findCachedResponse(String userId, String key) {
+        return Optional.ofNullable(recentResponses.getIfPresent(new Scope(userId, key)));
+    }
+
+    /**
+     * Claims the key for the current transaction. If another request holds the key and has not
+     * committed yet, this blocks on its row until it finishes.
+     */
+    public boolean claim(String userId, String key) {
+        return idempotencyKeyRepository.claim(userId, key) == 1;
+    }
+
+    public Optional<OrderResponse> findStoredResponse(String userId, String key) {
+        return idempotencyKeyRepository.findByUserIdAndIdempotencyKey(userId, key)
+                .map(IdempotencyKey::getResponseBody)
+                .map(this::readResponse)
+                .map(response -> {
+                    recentResponses.put(new Scope(userId, key), response);
+                    return response;
+                });
+    }
+
+    public void storeResponse(String userId, String key, OrderResponse response) {
+        idempotencyKeyRepository.storeResponse(userId, key, response.getId(), writeResponse(response));
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                recentResponses.put(new Scope(userId, key), response);
+            }
+        });
+    }
+
+    @Transactional
+    @Scheduled(fixedDelayString = "${order.idempotency.purge-interval:PT1H}")
+    public void purgeExpiredKeys() {
+        int purged = idempotencyKeyRepository.deleteByCreatedAtBefore(LocalDateTime.now().minus(properties.getRetention()));
+        if (purged > 0) {
+            log.info("Purged {} expired idempotency keys", purged);
+        }
+    }
+
+    private String writeResponse(OrderResponse response) {
+        try {
+            return objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize order response", e);
+        }
+    }
+
+    private OrderResponse readResponse(String body) {
+        try {
+            return objectMapper.readValue(body, OrderResponse.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not read stored order response", e);
+        }
+    }
+
+    private record Scope(String userId, String key) {
+    }
+}
@@ -1,27 +1,119 @@
 package com.ecommerce.order.service;
 
+import com.ecommerce.order.config.OrderHistoryProperties;
 import com.ecommerce.order.dto.OrderItemDTO;
+import com.ecommerce.order.dto.OrderPage;
+import com.ecommerce.order.dto.OrderPlacedEvent;
 import com.ecommerce.order.dto.OrderResponse;
 import com.ecommerce.order.model.CartItem;
+import com.ecommerce.order.model.Money;
 import com.ecommerce.order.repository.OrderRepository;
 import com.ecommerce.order.model.OrderStatus;
 import com.ecommerce.order.model.OrderItem;
 import com.ecommerce.order.model.Order;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class OrderService {
     private final CartService cartService;
     private final OrderRepository orderRepository;
+    private final IdempotencyService idempotencyService;
+    private final OutboxService outboxService;
+    private final OrderHistoryProperties historyProperties;
+    private final OrderSummaryService orderSummaryService;
+    private final TransactionTemplate transactionTemplate;
 
+    public Optional<OrderResponse> getOrder(String userId, Long orderId) {
+        return orderSummaryService.findOrder(userId, orderId);
+    }
+
+    /**
+     * Newest orders first. The page is read with a keyset seek on (created_at, id), then the items of
+     * every order on the page are loaded in a single query.
+     */
+    public OrderPage getOrders(String userId, String cursor, Integer size) {
+        int pageSize = resolvePageSize(size);
+        Limit limit = Limit.of(pageSize + 1);
+        List<Order> orders;
+        if (cursor == null) {
+            orders = orderRepository.findByUserIdOrderByCreatedAtDescIdDesc(userId, limit);
+        } else {
+            OrderCursor after = decodeCursor(cursor);
+            orders = orderRepository.findByUserIdBefore(userId, after.createdAt(), after.id(), limit);
+        }
+
+        boolean hasMore = orders.size() > pageSize;
+        List<Order> page = hasMore ? orders.subList(0, pageSize) : orders;
+        if (page.isEmpty()) {
+            return new OrderPage(List.of(), null);
+        }
+
+        Map<Long, Order> withItems = orderRepository.findWithItemsByIdIn(page.stream().map(Order::getId).toList())
+                .stream()
+                .collect(Collectors.toMap(Order::getId, Function.identity(), (first, second) -> first));
+        List<OrderResponse> items = page.stream()
+                .map(order -> mapToOrderResponse(withItems.getOrDefault(order.getId(), order)))
+                .toList();
+        Order last = page.get(page.size() - 1);
+        String nextCursor = hasMore ? encodeCursor(last.getCreatedAt(), last.getId()) : null;
+        return new OrderPage(items, nextCursor);
+    }
+
+    /**
+     * Checkout that is safe to retry: a repeated Idempotency-Key returns the first response instead of
+     * placing a second order. The key is claimed in the same transaction as the order, so a crash in
+     * between leaves neither behind.
+     */
+    public Optional<OrderResponse> createOrder(String userId, String idempotencyKey) {
+        if (idempotencyKey == null) {
+            return createOrder(userId);
+        }
+        idempotencyService.validate(idempotencyKey);
+        cartService.flushCart(userId);
+        return transactionTemplate.execute(status -> {
+            Optional<OrderResponse> cached = idempotencyService.findCachedResponse(userId, idempotencyKey);
+            if (cached.isPresent()) {
+                return cached;
+            }
+            if (!idempotencyService.claim(userId, idempotencyKey)) {
+                return idempotencyService.findStoredResponse(userId, idempotencyKey);
+            }
+
+            Optional<OrderResponse> created = placeOrder(userId);
+            if (created.isEmpty()) {
+                status.setRollbackOnly();
+                return created;
+            }
+            idempotencyService.storeResponse(userId, idempotencyKey, created.get());
+            return created;
+        });
+    }
+
+    /**
+     * Flushes the user's in-memory cart first, outside the checkout transaction, so checkout never
+     * waits on a cart flush while holding a connection.
+     */
     public Optional<OrderResponse> createOrder(String userId) {
-        List<CartItem> cartItems = cartService.getCart(userId);
+        cartService.flushCart(userId);
+        return transactionTemplate.execute(status -> placeOrder(userId));
+    }
+
+    private Optional<OrderResponse> placeOrder(String userId) {
+        List<CartItem> cartItems = cartService.getCartForCheckout(userId);
         if(cartItems.isEmpty()){
             return Optional.empty();
         }
@@ -31,8 +123,7 @@ public class OrderService {
 //        }
 //        User user = userOptional.get();
 
-        BigDecimal totalPrice= cartItems.stream().map(CartItem::getPrice)
-                .reduce(BigDecimal.ZERO,BigDecimal::add);
+        Money totalPrice= calculateTotal(cartItems);
 
         Order order=new Order();
         order.setUserId(userId);
@@ -51,10 +142,19 @@ public class OrderService {
         Order savedOrder=orderRepository.save(order);
         cartService.clearCart(userId);
 
-        return Optional.of(mapToOrderResponse(savedOrder));
+        OrderResponse response = mapToOrderResponse(savedOrder);
+        orderSummaryService.recordPlaced(userId, response);
+        outboxService.record("Order", String.valueOf(savedOrder.getId()), "OrderPlaced",
+                new OrderPlacedEvent(savedOrder.getId(), userId, response.getTotalAmount(),
+                        response.getItems(), response.getCreatedAt()));
+        return Optional.of(response);
+    }
+
+    static Money calculateTotal(List<CartItem> cartItems) {
+        return Money.total(cartItems, CartItem::getPrice, CartItem::getQuantity);
     }
 
-    private OrderResponse mapToOrderResponse(Order order) {
+    OrderResponse mapToOrderResponse(Order order) {
         return new OrderResponse(
                 order.getId(),
                 order.getTotalAmount(),
@@ -65,9 +165,38 @@ public class OrderService {
                                 orderItem.getProductId(),
                                 orderItem.getQuantity(),
                                 orderItem.getPrice(),
-                                orderItem.getPrice().multiply(new BigDecimal(orderItem.getQuantity()))
+                                orderItem.getPrice().times(orderItem.getQuantity())
                         ))
                         .toList(),order.getCreatedAt());
 
     }
+
+    private int resolvePageSize(Integer size) {
+        if (size == null || size <= 0) {
+            return historyProperties.getPageSize();
+        }
+        return Math.min(size, historyProperties.getMaxPageSize());
+    }
+
+    private String encodeCursor(LocalDateTime createdAt, Long id) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(("ts:" + createdAt + ",id:" + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private OrderCursor decodeCursor(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = decoded.lastIndexOf(",id:");
+            if (decoded.startsWith("ts:") && separator > 3) {
+                return new OrderCursor(LocalDateTime.parse(decoded.substring(3, separator)),
+                        Long.parseLong(decoded.substring(separator + 4)));
+            }
+        } catch (IllegalArgumentException | DateTimeParseException ignored) {
+            // malformed base64, timestamp or id, reported below
+        }
+        throw new IllegalArgumentException("Invalid cursor: " + cursor);
+    }
+
+    private record OrderCursor(LocalDateTime createdAt, Long id) {
+    }
 }
@@ -0,0 +1,58 @@
+package com.ecommerce.order.service;
+
+import com.ecommerce.order.dto.OrderResponse;
+import com.ecommerce.order.model.OrderStatus;
+import com.ecommerce.order.model.OrderSummary;
+import com.ecommerce.order.repository.OrderSummaryRepository;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Maintains the order_summaries read model. Writes join the caller's transaction so the projection
+ * never drifts from the orders table; reads are a single primary-key lookup.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrderSummaryService {
+    private final OrderSummaryRepository orderSummaryRepository;
+
+    @Transactional(Transactional.TxType.MANDATORY)
+    public void recordPlaced(String userId, OrderResponse order) {
+        OrderSummary summary = new OrderSummary();
+        summary.setOrderId(order.getId());
+        summary.setUserId(userId);
+        summary.setStatus(order.getStatus());
+        summary.setTotalAmount(order.getTotalAmount());
+        summary.setItemCount(order.getItems().size());
+        summary.setItems(order.getItems());
+        summary.setCreatedAt(order.getCreatedAt());
+        summary.setUpdatedAt(order.getCreatedAt());
+        orderSummaryRepository.save(summary);
+    }
+
+    @Transactional(Transactional.TxType.MANDATORY)
+    public int recordTransition(Collection<Long> orderIds, OrderStatus from, OrderStatus to) {
+        return orderSummaryRepository.transition(orderIds, from, to);
+    }
+
+    public Optional<OrderResponse> findOrder(String userId, Long orderId) {
+        return orderSummaryRepository.findResponse(orderId, userId);
+    }
+
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillSummaries() {
+        int created = orderSummaryRepository.backfillMissing();
+        if (created > 0) {
+            log.info("Backfilled {} order summaries", created);
+        }
+    }
+}
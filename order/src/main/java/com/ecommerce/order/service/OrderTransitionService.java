@@ -0,0 +1,93 @@
+package com.ecommerce.order.service;
+
+import com.ecommerce.order.config.OrderTransitionProperties;
+import com.ecommerce.order.dto.OrderTransitionRequest;
+import com.ecommerce.order.dto.OrderTransitionResponse;
+import com.ecommerce.order.dto.OrderTransitionResult;
+import com.ecommerce.order.dto.TransitionOutcome;
+import com.ecommerce.order.model.OrderStatus;
+import com.ecommerce.order.repository.OrderRepository;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+
+/**
+ * Moves orders through the {@link OrderStatus} lifecycle in bulk. Current statuses are read as a
+ * locked projection, each order is checked against the state machine, and the valid ones are
+ * updated with one set-based UPDATE per source status and chunk of ids.
+ *
+ * <p>Rows are locked chunk by chunk in ascending id order across the whole request, so two bulk
+ * requests with overlapping ids always acquire their row locks in the same order and cannot deadlock.
+ */
+@Service
+@RequiredArgsConstructor
+public class OrderTransitionService {
+    private final OrderRepository orderRepository;
+    private final OrderTransitionProperties properties;
+    private final OrderSummaryService orderSummaryService;
+
+    @Transactional
+    public OrderTransitionResponse transition(OrderTransitionRequest request) {
+        OrderStatus target = request.getTargetStatus();
+        if (target == null) {
+            throw new IllegalArgumentException("A target status is required");
+        }
+        List<Long> ids = uniqueIds(request.getOrderIds());
+
+        Map<Long, OrderStatus> current = new HashMap<>();
+        for (List<Long> chunk : chunks(ids.stream().sorted().toList())) {
+            orderRepository.lockStatuses(chunk)
+                    .forEach(view -> current.put(view.getId(), OrderStatus.valueOf(view.getStatus())));
+        }
+
+        Map<OrderStatus, List<Long>> bySource = new EnumMap<>(OrderStatus.class);
+        List<OrderTransitionResult> results = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            OrderStatus status = current.get(id);
+            TransitionOutcome outcome;
+            if (status == null) {
+                outcome = TransitionOutcome.NOT_FOUND;
+            } else if (status == target) {
+                outcome = TransitionOutcome.ALREADY_IN_STATUS;
+            } else if (status.canTransitionTo(target)) {
+                outcome = TransitionOutcome.TRANSITIONED;
+                bySource.computeIfAbsent(status, from -> new ArrayList<>()).add(id);
+            } else {
+                outcome = TransitionOutcome.INVALID_TRANSITION;
+            }
+            results.add(new OrderTransitionResult(id, status, outcome));
+        }
+
+        int transitioned = 0;
+        for (Map.Entry<OrderStatus, List<Long>> source : bySource.entrySet()) {
+            for (List<Long> chunk : chunks(source.getValue().stream().sorted().toList())) {
+                transitioned += orderRepository.transition(chunk, source.getKey(), target);
+                orderSummaryService.recordTransition(chunk, source.getKey(), target);
+            }
+        }
+        return new OrderTransitionResponse(target, transitioned, results);
+    }
+
+    private List<Long> uniqueIds(List<Long> orderIds) {
+        if (orderIds == null || orderIds.isEmpty()) {
+            throw new IllegalArgumentException("At least one order id is required");
+        }
+        Set<Long> unique = new LinkedHashSet<>(orderIds);
+        unique.remove(null);
+        if (unique.size() > properties.getMaxOrdersPerRequest()) {
+            throw new IllegalArgumentException("At most " + properties.getMaxOrdersPerRequest()
+                    + " orders can be transitioned per request");
+        }
+        return new ArrayList<>(unique);
+    }
+
+    private List<List<Long>> chunks(List<Long> ids) {
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += properties.getChunkSize()) {
+            chunks.add(ids.subList(from, Math.min(ids.size(), from + properties.getChunkSize())));
+        }
+        return chunks;
+    }
+}
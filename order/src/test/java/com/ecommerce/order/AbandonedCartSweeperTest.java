@@ -0,0 +1,112 @@
+package com.ecommerce.order;
+
+import com.ecommerce.order.cart.AbandonedCartSweeper;
+import com.ecommerce.order.cart.CartStore;
+import com.ecommerce.order.config.CartStoreProperties;
+import com.ecommerce.order.config.CartSweeperProperties;
+import com.ecommerce.order.dto.CartSweepStats;
+import com.ecommerce.order.model.CartItem;
+import com.ecommerce.order.repository.CartItemRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.cloud.config.enabled=false",
+        "order.cart.sweeper.ttl=7d",
+        "order.cart.sweeper.batch-size=3",
+        "order.cart.sweeper.pause-between-batches=0ms"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({AbandonedCartSweeper.class, CartStore.class})
+@EnableConfigurationProperties({CartStoreProperties.class, CartSweeperProperties.class})
+@Testcontainers(disabledWithoutDocker = true)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("AbandonedCartSweeper Tests")
+class AbandonedCartSweeperTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:14");
+
+    @Autowired
+    private AbandonedCartSweeper sweeper;
+
+    @Autowired
+    private CartItemRepository cartItemRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        cartItemRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should delete idle carts across several batches and keep fresh ones")
+    void sweep_ShouldDeleteIdleCartsOnly() {
+        // Arrange
+        for (int i = 0; i < 5; i++) {
+            insertLine("idle-" + i, "product-1", 10);
+            insertLine("idle-" + i, "product-2", 9);
+        }
+        insertLine("fresh", "product-1", 0);
+
+        // Act
+        sweeper.sweep();
+
+        // Assert
+        assertThat(cartItemRepository.findAll())
+                .extracting(CartItem::getUserId)
+                .containsExactly("fresh");
+        CartSweepStats stats = sweeper.stats();
+        assertThat(stats.getRuns()).isEqualTo(1);
+        assertThat(stats.getRowsSwept()).isEqualTo(10);
+        assertThat(stats.getCartsSwept()).isEqualTo(5);
+        assertThat(stats.getLastRunAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should keep a cart that has any line newer than the TTL")
+    void sweep_WhenCartPartlyActive_ShouldKeepWholeCart() {
+        // Arrange
+        insertLine("mixed", "product-1", 30);
+        insertLine("mixed", "product-2", 30);
+        insertLine("mixed", "product-3", 30);
+        insertLine("mixed", "product-4", 1);
+        insertLine("idle", "product-1", 8);
+
+        // Act
+        sweeper.sweep();
+
+        // Assert
+        assertThat(cartItemRepository.findByUserId("mixed")).hasSize(4);
+        assertThat(cartItemRepository.findByUserId("idle")).isEmpty();
+    }
+
+    private void insertLine(String userId, String productId, int daysIdle) {
+        Timestamp updatedAt = Timestamp.valueOf(LocalDateTime.now().minusDays(daysIdle));
+        jdbcTemplate.update("INSERT INTO cart_item (user_id, product_id, quantity, price, created_at, updated_at) " +
+                "VALUES (?, ?, 1, ?, ?, ?)", userId, productId, BigDecimal.TEN, updatedAt, updatedAt);
+    }
+}
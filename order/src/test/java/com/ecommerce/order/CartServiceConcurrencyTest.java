@@ -0,0 +1,217 @@
+package com.ecommerce.order;
+
+import com.ecommerce.order.cart.CartStore;
+import com.ecommerce.order.client.ProductLookupClient;
+import com.ecommerce.order.config.CartStoreProperties;
+import com.ecommerce.order.dto.CartBulkResponse;
+import com.ecommerce.order.dto.CartItemOutcome;
+import com.ecommerce.order.dto.CartItemRequest;
+import com.ecommerce.order.dto.CartItemResult;
+import com.ecommerce.order.dto.ProductResponse;
+import com.ecommerce.order.model.CartItem;
+import com.ecommerce.order.repository.CartItemRepository;
+import com.ecommerce.order.service.CartService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.cloud.config.enabled=false",
+        "order.cart.durability=write-through"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({CartService.class, CartStore.class})
+@EnableConfigurationProperties(CartStoreProperties.class)
+@Testcontainers(disabledWithoutDocker = true)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("CartService Concurrency Tests")
+class CartServiceConcurrencyTest {
+
+    private static final int THREADS = 16;
+    private static final int ADDS_PER_THREAD = 50;
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:14");
+
+    @Autowired
+    private CartService cartService;
+
+    @Autowired
+    private CartItemRepository cartItemRepository;
+
+    @Autowired
+    private CartStore cartStore;
+
+    @MockitoBean
+    private ProductLookupClient productLookupClient;
+
+    @BeforeEach
+    void setUp() {
+        cartItemRepository.deleteAll();
+        cartStore.evict("user-1");
+        ProductResponse product = new ProductResponse();
+        product.setPrice(BigDecimal.TEN);
+        product.setStockQuantity(Integer.MAX_VALUE);
+        product.setActive(true);
+        when(productLookupClient.getProduct(anyString())).thenReturn(Optional.of(product));
+    }
+
+    @Test
+    @DisplayName("Should keep a single row with the summed quantity under concurrent adds")
+    void shouldKeepSingleRowUnderConcurrentAdds() throws Exception {
+        // Arrange
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // Act
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < ADDS_PER_THREAD; i++) {
+                    cartService.addToCart("user-1", createCartItemRequest("product-1", 2));
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        // Assert
+        List<CartItem> cart = cartItemRepository.findByUserId("user-1");
+        assertThat(cart).hasSize(1);
+        assertThat(cart.get(0).getQuantity()).isEqualTo(THREADS * ADDS_PER_THREAD * 2);
+    }
+
+    @Test
+    @DisplayName("Should keep separate rows per product")
+    void shouldKeepSeparateRowsPerProduct() {
+        // Act
+        cartService.addToCart("user-1", createCartItemRequest("product-1", 1));
+        cartService.addToCart("user-1", createCartItemRequest("product-2", 3));
+        cartService.addToCart("user-1", createCartItemRequest("product-1", 4));
+
+        // Assert
+        assertThat(cartItemRepository.findByUserId("user-1"))
+                .extracting(CartItem::getProductId, CartItem::getQuantity)
+                .containsExactlyInAnyOrder(
+                        tuple("product-1", 5),
+                        tuple("product-2", 3));
+    }
+
+    @Test
+    @DisplayName("Should apply valid bulk items together and report each item's outcome")
+    void shouldApplyBulkItemsWithPerItemOutcome() {
+        // Arrange
+        ProductResponse lowStock = new ProductResponse();
+        lowStock.setPrice(BigDecimal.ONE);
+        lowStock.setStockQuantity(1);
+        lowStock.setActive(true);
+        when(productLookupClient.getProducts(anyCollection())).thenAnswer(invocation -> {
+            Map<String, Optional<ProductResponse>> products = new LinkedHashMap<>();
+            for (String productId : invocation.<List<String>>getArgument(0)) {
+                products.put(productId, switch (productId) {
+                    case "missing" -> Optional.empty();
+                    case "scarce" -> Optional.of(lowStock);
+                    default -> productLookupClient.getProduct(productId);
+                });
+            }
+            return products;
+        });
+
+        // Act
+        CartBulkResponse response = cartService.addAllToCart("user-1", List.of(
+                createCartItemRequest("product-1", 2),
+                createCartItemRequest("missing", 1),
+                createCartItemRequest("scarce", 5),
+                createCartItemRequest("product-2", 0),
+                createCartItemRequest("product-1", 3)));
+
+        // Assert
+        assertThat(response.getAdded()).isEqualTo(2);
+        assertThat(response.getResults())
+                .extracting(CartItemResult::getProductId, CartItemResult::getOutcome)
+                .containsExactly(
+                        tuple("product-1", CartItemOutcome.ADDED),
+                        tuple("missing", CartItemOutcome.PRODUCT_NOT_FOUND),
+                        tuple("scarce", CartItemOutcome.OUT_OF_STOCK),
+                        tuple("product-2", CartItemOutcome.INVALID_REQUEST),
+                        tuple("product-1", CartItemOutcome.ADDED));
+        assertThat(cartItemRepository.findByUserId("user-1"))
+                .extracting(CartItem::getProductId, CartItem::getQuantity)
+                .containsExactly(tuple("product-1", 5));
+    }
+
+    @Test
+    @DisplayName("Should check repeated products in a bulk request against their combined quantity")
+    void shouldCheckRepeatedBulkItemsAgainstCombinedStock() {
+        // Arrange
+        ProductResponse limited = new ProductResponse();
+        limited.setPrice(BigDecimal.ONE);
+        limited.setStockQuantity(8);
+        limited.setActive(true);
+        when(productLookupClient.getProducts(anyCollection())).thenAnswer(invocation -> {
+            Map<String, Optional<ProductResponse>> products = new LinkedHashMap<>();
+            for (String productId : invocation.<List<String>>getArgument(0)) {
+                products.put(productId, Optional.of(limited));
+            }
+            return products;
+        });
+
+        // Act
+        CartBulkResponse response = cartService.addAllToCart("user-1", List.of(
+                createCartItemRequest("product-1", 5),
+                createCartItemRequest("product-1", 5),
+                createCartItemRequest("product-1", 3)));
+
+        // Assert
+        assertThat(response.getAdded()).isEqualTo(2);
+        assertThat(response.getResults())
+                .extracting(CartItemResult::getOutcome)
+                .containsExactly(CartItemOutcome.ADDED, CartItemOutcome.OUT_OF_STOCK, CartItemOutcome.ADDED);
+        assertThat(cartItemRepository.findByUserId("user-1"))
+                .extracting(CartItem::getProductId, CartItem::getQuantity)
+                .containsExactly(tuple("product-1", 8));
+    }
+
+    private CartItemRequest createCartItemRequest(String productId, int quantity) {
+        CartItemRequest request = new CartItemRequest();
+        request.setProductId(productId);
+        request.setQuantity(quantity);
+        return request;
+    }
+}
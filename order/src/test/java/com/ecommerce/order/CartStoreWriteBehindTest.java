@@ -0,0 +1,211 @@
+package com.ecommerce.order;
+
+import com.ecommerce.order.cart.CartStore;
+import com.ecommerce.order.config.CartStoreProperties;
+import com.ecommerce.order.model.CartItem;
+import com.ecommerce.order.model.Money;
+import com.ecommerce.order.repository.CartItemRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.cloud.config.enabled=false",
+        "order.cart.durability=write-behind",
+        "order.cart.flush-threshold=5"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(CartStore.class)
+@EnableConfigurationProperties(CartStoreProperties.class)
+@Testcontainers(disabledWithoutDocker = true)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("CartStore Write-Behind Tests")
+class CartStoreWriteBehindTest {
+
+    private static final Money TEN = Money.ofMinor(1000);
+    private static final Money ONE = Money.ofMinor(100);
+    private static final int THREADS = 8;
+    private static final int ADDS_PER_THREAD = 200;
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:14");
+
+    @Autowired
+    private CartStore cartStore;
+
+    @Autowired
+    private CartItemRepository cartItemRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private String userId;
+
+    @BeforeEach
+    void setUp() {
+        cartStore.flushAll();
+        userId = "user-" + UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("Should serve writes from memory and persist them only on flush")
+    void add_ShouldDeferDatabaseWriteUntilFlush() {
+        // Act
+        cartStore.add(userId, "product-1", 2, TEN);
+        cartStore.add(userId, "product-1", 3, ONE);
+
+        // Assert
+        assertThat(cartStore.get(userId))
+                .extracting(CartItem::getProductId, CartItem::getQuantity, CartItem::getPrice)
+                .containsExactly(tuple("product-1", 5, ONE));
+        assertThat(cartItemRepository.findByUserId(userId)).isEmpty();
+
+        cartStore.flush(userId);
+
+        assertThat(cartItemRepository.findByUserId(userId))
+                .extracting(CartItem::getProductId, CartItem::getQuantity)
+                .containsExactly(tuple("product-1", 5));
+    }
+
+    @Test
+    @DisplayName("Should delete removed lines on the next flush")
+    void remove_ShouldDeleteLineOnFlush() {
+        // Arrange
+        cartStore.add(userId, "product-1", 1, TEN);
+        cartStore.add(userId, "product-2", 1, TEN);
+        cartStore.flush(userId);
+
+        // Act
+        boolean removed = cartStore.remove(userId, "product-1");
+        boolean removedAgain = cartStore.remove(userId, "product-1");
+        cartStore.flush(userId);
+
+        // Assert
+        assertThat(removed).isTrue();
+        assertThat(removedAgain).isFalse();
+        assertThat(cartItemRepository.findByUserId(userId))
+                .extracting(CartItem::getProductId)
+                .containsExactly("product-2");
+    }
+
+    @Test
+    @DisplayName("Should load a persisted cart on first access")
+    void get_ShouldLoadPersistedCart() {
+        // Arrange
+        cartStore.add(userId, "product-1", 4, TEN);
+        cartStore.flush(userId);
+        cartStore.evict(userId);
+
+        // Act
+        cartStore.add(userId, "product-1", 1, TEN);
+
+        // Assert
+        assertThat(cartStore.get(userId))
+                .extracting(CartItem::getQuantity)
+                .containsExactly(5);
+    }
+
+    @Test
+    @DisplayName("Should flush in the background once the dirty threshold is reached")
+    void add_WhenThresholdReached_ShouldFlushInBackground() throws Exception {
+        // Act
+        for (int i = 0; i < 5; i++) {
+            cartStore.add(userId + "-" + i, "product-1", 1, TEN);
+        }
+
+        // Assert
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (cartItemRepository.findByUserId(userId + "-4").isEmpty() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(cartStore.dirtyCount()).isZero();
+        assertThat(cartItemRepository.findByUserId(userId + "-4")).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should add flushed quantities to rows written elsewhere instead of overwriting them")
+    void flush_ShouldMergeWithRowsWrittenByAnotherInstance() {
+        // Arrange
+        cartStore.add(userId, "product-1", 2, TEN);
+        cartStore.flush(userId);
+        jdbcTemplate.update("UPDATE cart_item SET quantity = quantity + 3 WHERE user_id = ?", userId);
+
+        // Act
+        cartStore.add(userId, "product-1", 1, TEN);
+        cartStore.flush(userId);
+
+        // Assert
+        assertThat(cartItemRepository.findByUserId(userId))
+                .extracting(CartItem::getProductId, CartItem::getQuantity)
+                .containsExactly(tuple("product-1", 6));
+    }
+
+    @Test
+    @DisplayName("Should keep a single row with the summed quantity when adds race with flushes")
+    void add_WhenFlushedConcurrently_ShouldKeepSummedQuantity() throws Exception {
+        // Arrange
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS + 1);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean adding = new AtomicBoolean(true);
+        List<Future<?>> adders = new ArrayList<>();
+
+        // Act
+        Future<?> flusher = executor.submit(() -> {
+            start.await();
+            while (adding.get()) {
+                cartStore.flushAll();
+                cartStore.flush(userId);
+            }
+            return null;
+        });
+        for (int t = 0; t < THREADS; t++) {
+            adders.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < ADDS_PER_THREAD; i++) {
+                    cartStore.add(userId, "product-1", 2, TEN);
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> adder : adders) {
+            adder.get();
+        }
+        adding.set(false);
+        flusher.get();
+        executor.shutdown();
+        cartStore.flush(userId);
+
+        // Assert
+        assertThat(cartItemRepository.findByUserId(userId))
+                .extracting(CartItem::getProductId, CartItem::getQuantity)
+                .containsExactly(tuple("product-1", THREADS * ADDS_PER_THREAD * 2));
+    }
+}
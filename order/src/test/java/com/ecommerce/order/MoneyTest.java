@@ -0,0 +1,88 @@
+package com.ecommerce.order;
+
+import com.ecommerce.order.model.Money;
+import com.ecommerce.order.model.MoneyConverter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("Money Unit Tests")
+class MoneyTest {
+
+    @Nested
+    @DisplayName("Conversion Tests")
+    class ConversionTests {
+
+        @Test
+        @DisplayName("Should round half-even to whole cents")
+        void of_ShouldRoundHalfEven() {
+            assertThat(Money.of(new BigDecimal("10.005"))).isEqualTo(Money.ofMinor(1000));
+            assertThat(Money.of(new BigDecimal("10.015"))).isEqualTo(Money.ofMinor(1002));
+            assertThat(Money.of(new BigDecimal("-0.125"))).isEqualTo(Money.ofMinor(-12));
+            assertThat(Money.of(new BigDecimal("19.9"))).isEqualTo(Money.ofMinor(1990));
+        }
+
+        @Test
+        @DisplayName("Should reject a missing amount")
+        void of_WhenAmountNull_ShouldThrow() {
+            assertThrows(IllegalArgumentException.class, () -> Money.of(null));
+        }
+
+        @Test
+        @DisplayName("Should round-trip through the JPA converter and JSON as a plain decimal")
+        void converters_ShouldKeepDecimalFormat() throws Exception {
+            MoneyConverter converter = new MoneyConverter();
+            ObjectMapper objectMapper = new ObjectMapper();
+            Money price = Money.ofMinor(1999);
+
+            assertThat(converter.convertToDatabaseColumn(price)).isEqualTo(new BigDecimal("19.99"));
+            assertThat(converter.convertToEntityAttribute(new BigDecimal("19.99"))).isEqualTo(price);
+            assertThat(converter.convertToEntityAttribute(null)).isNull();
+            assertThat(objectMapper.writeValueAsString(price)).isEqualTo("19.99");
+            assertThat(objectMapper.readValue("19.99", Money.class)).isEqualTo(price);
+        }
+    }
+
+    @Nested
+    @DisplayName("Arithmetic Tests")
+    class ArithmeticTests {
+
+        @Test
+        @DisplayName("Should total price times quantity exactly")
+        void total_ShouldMultiplyAndSum() {
+            List<Line> lines = List.of(new Line(Money.ofMinor(450), 3), new Line(Money.ofMinor(2000), 1));
+
+            Money total = Money.total(lines, Line::price, Line::quantity);
+
+            assertThat(total).isEqualTo(Money.ofMinor(3350));
+            assertThat(Money.total(List.<Line>of(), Line::price, Line::quantity)).isEqualTo(Money.ZERO);
+        }
+
+        @Test
+        @DisplayName("Should fail instead of overflowing")
+        void arithmetic_WhenOverflowing_ShouldThrow() {
+            Money huge = Money.ofMinor(Long.MAX_VALUE / 2 + 1);
+
+            assertThrows(ArithmeticException.class, () -> huge.times(2));
+            assertThrows(ArithmeticException.class, () -> huge.plus(huge));
+        }
+
+        @Test
+        @DisplayName("Should reject items without a price")
+        void total_WhenPriceMissing_ShouldThrow() {
+            List<Line> lines = List.of(new Line(Money.ofMinor(450), 3), new Line(null, 1));
+
+            assertThrows(IllegalArgumentException.class, () -> Money.total(lines, Line::price, Line::quantity));
+        }
+    }
+
+    private record Line(Money price, int quantity) {
+    }
+}
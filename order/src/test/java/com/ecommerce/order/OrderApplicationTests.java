@@ -3,7 +3,7 @@ package com.ecommerce.order;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+@SpringBootTest(properties = "order.outbox.publisher=in-memory")
 class OrderApplicationTests {
 
 	@Test
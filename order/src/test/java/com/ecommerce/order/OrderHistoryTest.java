@@ -0,0 +1,133 @@
+package com.ecommerce.order;
+
+import com.ecommerce.order.cart.CartStore;
+import com.ecommerce.order.dto.OrderItemDTO;
+import com.ecommerce.order.dto.OrderPage;
+import com.ecommerce.order.dto.OrderResponse;
+import com.ecommerce.order.model.Money;
+import com.ecommerce.order.service.OrderService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = {
+        "spring.cloud.config.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "order.outbox.publisher=in-memory"
+})
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("Order History Tests")
+class OrderHistoryTest {
+
+    private static final int ORDERS = 7;
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:14");
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private CartStore cartStore;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private String userId;
+    private List<Long> placedOrderIds;
+
+    @BeforeEach
+    void setUp() {
+        userId = "user-" + UUID.randomUUID();
+        placedOrderIds = new ArrayList<>();
+        for (int i = 0; i < ORDERS; i++) {
+            cartStore.add(userId, "product-1", 1, Money.of(BigDecimal.TEN));
+            cartStore.add(userId, "product-2", 2, Money.of(BigDecimal.ONE));
+            placedOrderIds.add(orderService.createOrder(userId).orElseThrow().getId());
+        }
+    }
+
+    @Test
+    @DisplayName("Should walk every order newest first without gaps or duplicates")
+    void getOrders_ShouldPageNewestFirst() {
+        // Act
+        List<Long> seen = new ArrayList<>();
+        String cursor = null;
+        do {
+            OrderPage page = orderService.getOrders(userId, cursor, 3);
+            page.getItems().forEach(order -> seen.add(order.getId()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        // Assert
+        assertThat(seen).containsExactlyElementsOf(placedOrderIds.reversed());
+    }
+
+    @Test
+    @DisplayName("Should load a page and its items in two queries")
+    void getOrders_ShouldNotIssueQueryPerOrder() {
+        // Arrange
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // Act
+        OrderPage page = orderService.getOrders(userId, null, ORDERS);
+
+        // Assert
+        assertThat(page.getItems()).hasSize(ORDERS);
+        assertThat(page.getItems()).allSatisfy(order -> assertThat(order.getItems()).hasSize(2));
+        assertThat(page.getNextCursor()).isNull();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should only return orders of the requesting user")
+    void getOrders_ShouldScopeToUser() {
+        // Act
+        OrderPage page = orderService.getOrders("someone-else-" + UUID.randomUUID(), null, null);
+
+        // Assert
+        assertThat(page.getItems()).isEmpty();
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should reject a malformed cursor")
+    void getOrders_WhenCursorInvalid_ShouldThrow() {
+        assertThatThrownBy(() -> orderService.getOrders(userId, "not-a-cursor", null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should report the item subtotal for each line")
+    void getOrders_ShouldMapItems() {
+        // Act
+        OrderResponse newest = orderService.getOrders(userId, null, 1).getItems().get(0);
+
+        // Assert
+        assertThat(newest.getId()).isEqualTo(placedOrderIds.get(ORDERS - 1));
+        assertThat(newest.getItems())
+                .extracting(OrderItemDTO::getSubTotal)
+                .containsExactlyInAnyOrder(Money.ofMinor(1000), Money.ofMinor(200));
+    }
+}
@@ -0,0 +1,128 @@
+package com.ecommerce.order;
+
+import com.ecommerce.order.cart.CartStore;
+import com.ecommerce.order.dto.OrderResponse;
+import com.ecommerce.order.model.Money;
+import com.ecommerce.order.repository.OrderRepository;
+import com.ecommerce.order.service.CartService;
+import com.ecommerce.order.service.OrderService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.cloud.config.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "order.outbox.publisher=in-memory"
+})
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("Order Idempotency Tests")
+class OrderIdempotencyTest {
+
+    private static final int RETRIES = 8;
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:14");
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private CartStore cartStore;
+
+    @Autowired
+    private CartService cartService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    private String userId;
+
+    @BeforeEach
+    void setUp() {
+        userId = "user-" + UUID.randomUUID();
+        cartStore.add(userId, "product-1", 2, Money.of(new BigDecimal("25.00")));
+    }
+
+    @Test
+    @DisplayName("Should return the first order when the same key is retried")
+    void createOrder_WhenKeyRepeated_ShouldReplayFirstResponse() {
+        // Arrange
+        long ordersBefore = orderRepository.count();
+
+        // Act
+        Optional<OrderResponse> first = orderService.createOrder(userId, "checkout-1");
+        Optional<OrderResponse> retry = orderService.createOrder(userId, "checkout-1");
+
+        // Assert
+        assertThat(first).isPresent();
+        assertThat(retry).isPresent();
+        assertThat(retry.get().getId()).isEqualTo(first.get().getId());
+        assertThat(retry.get().getTotalAmount()).isEqualTo(first.get().getTotalAmount());
+        assertThat(orderRepository.count()).isEqualTo(ordersBefore + 1);
+    }
+
+    @Test
+    @DisplayName("Should create exactly one order when retries race")
+    void createOrder_WhenRetriesConcurrent_ShouldCreateOneOrder() throws Exception {
+        // Arrange
+        long ordersBefore = orderRepository.count();
+        ExecutorService executor = Executors.newFixedThreadPool(RETRIES);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Optional<OrderResponse>>> results = new ArrayList<>();
+
+        // Act
+        for (int i = 0; i < RETRIES; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return orderService.createOrder(userId, "checkout-race");
+            }));
+        }
+        start.countDown();
+        List<Long> orderIds = new ArrayList<>();
+        for (Future<Optional<OrderResponse>> result : results) {
+            orderIds.add(result.get().map(OrderResponse::getId).orElseThrow());
+        }
+        executor.shutdown();
+
+        // Assert
+        assertThat(orderIds).containsOnly(orderIds.get(0));
+        assertThat(orderRepository.count()).isEqualTo(ordersBefore + 1);
+    }
+
+    @Test
+    @DisplayName("Should not remember a key when the cart was empty")
+    void createOrder_WhenCartEmpty_ShouldReleaseKey() {
+        // Arrange
+        cartService.clearCart(userId);
+
+        // Act
+        Optional<OrderResponse> empty = orderService.createOrder(userId, "checkout-empty");
+        cartStore.add(userId, "product-1", 1, Money.of(BigDecimal.TEN));
+        Optional<OrderResponse> created = orderService.createOrder(userId, "checkout-empty");
+
+        // Assert
+        assertThat(empty).isEmpty();
+        assertThat(created).isPresent();
+    }
+}
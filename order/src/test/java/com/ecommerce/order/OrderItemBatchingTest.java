@@ -0,0 +1,171 @@
+package com.ecommerce.order;
+
+import com.ecommerce.order.cart.CartStore;
+import com.ecommerce.order.model.Money;
+import com.ecommerce.order.model.Order;
+import com.ecommerce.order.model.OrderItem;
+import com.ecommerce.order.model.OrderStatus;
+import com.ecommerce.order.service.OrderService;
+import jakarta.persistence.CascadeType;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Counts the JDBC statements a checkout prepares. With IDENTITY ids Hibernate has to run every
+ * INSERT on its own to read the generated key; with pooled SEQUENCE ids the item inserts go out in
+ * JDBC batches, so the statement count stays flat as the cart grows.
+ */
+@SpringBootTest(properties = {
+        "spring.cloud.config.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.jdbc.batch_size=50",
+        "spring.jpa.properties.hibernate.order_inserts=true",
+        "order.outbox.publisher=in-memory"
+})
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("Order Item Batching Tests")
+class OrderItemBatchingTest {
+
+    private static final int CART_SIZE = 200;
+    private static final int MAX_STATEMENTS = CART_SIZE / 10;
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:14")
+            .withUrlParam("reWriteBatchedInserts", "true");
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private CartStore cartStore;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("Should insert items one statement at a time with IDENTITY ids")
+    void identityIds_ShouldInsertEveryItemSeparately() {
+        // Arrange
+        IdentityOrder order = new IdentityOrder();
+        for (int i = 0; i < CART_SIZE; i++) {
+            IdentityOrderItem item = new IdentityOrderItem();
+            item.productId = "product-" + i;
+            item.order = order;
+            order.items.add(item);
+        }
+        statistics.clear();
+
+        // Act
+        transactionTemplate.executeWithoutResult(status -> entityManager.persist(order));
+
+        // Assert
+        assertThat(statistics.getPrepareStatementCount()).isGreaterThan(CART_SIZE);
+    }
+
+    @Test
+    @DisplayName("Should batch item inserts with SEQUENCE ids")
+    void sequenceIds_ShouldBatchItemInserts() {
+        // Arrange
+        Order order = new Order();
+        order.setUserId("user-" + UUID.randomUUID());
+        order.setStatus(OrderStatus.CONFIRMED);
+        order.setTotalAmount(Money.ofMinor(1000L * CART_SIZE));
+        for (int i = 0; i < CART_SIZE; i++) {
+            order.getItems().add(new OrderItem(null, "product-" + i, 1, Money.ofMinor(1000), order));
+        }
+        statistics.clear();
+
+        // Act
+        transactionTemplate.executeWithoutResult(status -> entityManager.persist(order));
+
+        // Assert
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(CART_SIZE + 1);
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(MAX_STATEMENTS);
+    }
+
+    @Test
+    @DisplayName("Should not issue a statement per cart line at checkout")
+    void createOrder_ShouldNotGrowStatementsWithCartSize() {
+        // Act
+        long single = checkoutStatements(1);
+        long large = checkoutStatements(CART_SIZE);
+
+        // Assert
+        assertThat(large - single).isLessThan(MAX_STATEMENTS);
+    }
+
+    private long checkoutStatements(int cartSize) {
+        String userId = "user-" + UUID.randomUUID();
+        for (int p = 0; p < cartSize; p++) {
+            cartStore.add(userId, "product-" + p, 1, Money.of(BigDecimal.TEN));
+        }
+        cartStore.flush(userId);
+        statistics.clear();
+
+        assertThat(orderService.createOrder(userId)).hasValueSatisfying(order ->
+                assertThat(order.getItems()).hasSize(cartSize));
+        return statistics.getPrepareStatementCount();
+    }
+
+    @Entity(name = "identity_orders")
+    static class IdentityOrder {
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        Long id;
+        @OneToMany(mappedBy = "order", cascade = CascadeType.ALL)
+        List<IdentityOrderItem> items = new ArrayList<>();
+    }
+
+    @Entity(name = "identity_order_items")
+    static class IdentityOrderItem {
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        Long id;
+        String productId;
+        @ManyToOne
+        @JoinColumn(name = "order_id", nullable = false)
+        IdentityOrder order;
+    }
+}
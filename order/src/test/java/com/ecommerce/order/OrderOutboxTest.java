@@ -0,0 +1,166 @@
+package com.ecommerce.order;
+
+import com.ecommerce.order.cart.CartStore;
+import com.ecommerce.order.dto.OrderPlacedEvent;
+import com.ecommerce.order.dto.OrderResponse;
+import com.ecommerce.order.model.Money;
+import com.ecommerce.order.model.OutboxEvent;
+import com.ecommerce.order.outbox.InMemoryOutboxEventPublisher;
+import com.ecommerce.order.outbox.OutboxRelay;
+import com.ecommerce.order.repository.OutboxEventRepository;
+import com.ecommerce.order.service.OrderService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.cloud.config.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "order.outbox.poll-interval=PT1H",
+        "order.outbox.publisher=in-memory"
+})
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("Order Outbox Tests")
+class OrderOutboxTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:14");
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private InMemoryOutboxEventPublisher publisher;
+
+    @Autowired
+    private CartStore cartStore;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        outboxRelay.relay();
+        publisher.clear();
+    }
+
+    @Test
+    @DisplayName("Should write an OrderPlaced event with the order and leave publishing to the relay")
+    void createOrder_ShouldRecordEventInOutbox() throws Exception {
+        // Arrange
+        String userId = fillCart();
+
+        // Act
+        OrderResponse order = orderService.createOrder(userId).orElseThrow();
+
+        // Assert
+        assertThat(publisher.getPublished()).isEmpty();
+        assertThat(countUnpublished()).isEqualTo(1);
+
+        outboxRelay.relay();
+
+        List<OutboxEvent> published = publisher.getPublished();
+        assertThat(published).hasSize(1);
+        assertThat(published.get(0).getEventType()).isEqualTo("OrderPlaced");
+        assertThat(published.get(0).getAggregateId()).isEqualTo(String.valueOf(order.getId()));
+        OrderPlacedEvent payload = objectMapper.readValue(published.get(0).getPayload(), OrderPlacedEvent.class);
+        assertThat(payload.getUserId()).isEqualTo(userId);
+        assertThat(payload.getTotalAmount()).isEqualTo(order.getTotalAmount());
+        assertThat(countUnpublished()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should not record an event when checkout fails")
+    void createOrder_WhenCartEmpty_ShouldNotRecordEvent() {
+        // Act
+        assertThat(orderService.createOrder("user-" + UUID.randomUUID())).isEmpty();
+        outboxRelay.relay();
+
+        // Assert
+        assertThat(publisher.getPublished()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should publish events in order across several batches")
+    void relay_ShouldPublishAllEventsInOrder() {
+        // Arrange
+        for (int i = 0; i < 250; i++) {
+            orderService.createOrder(fillCart());
+        }
+
+        // Act
+        outboxRelay.relay();
+
+        // Assert
+        List<Long> ids = publisher.getPublished().stream().map(OutboxEvent::getId).toList();
+        assertThat(ids).hasSize(250).isSorted();
+        assertThat(countUnpublished()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should skip events that are parked or not yet due for a retry")
+    void relay_ShouldSkipEventsNotDue() {
+        // Arrange
+        orderService.createOrder(fillCart());
+        orderService.createOrder(fillCart());
+        orderService.createOrder(fillCart());
+        List<OutboxEvent> pending = outboxEventRepository.findAll().stream()
+                .filter(event -> event.getPublishedAt() == null)
+                .sorted(Comparator.comparing(OutboxEvent::getId))
+                .toList();
+        transactionTemplate.executeWithoutResult(status -> {
+            outboxEventRepository.markFailed(pending.get(0).getId(), "broker down", LocalDateTime.now().plusHours(1));
+            outboxEventRepository.markParked(pending.get(1).getId(), "bad payload", LocalDateTime.now());
+        });
+
+        // Act
+        outboxRelay.relay();
+
+        // Assert
+        assertThat(publisher.getPublished())
+                .extracting(OutboxEvent::getId)
+                .containsExactly(pending.get(2).getId());
+        assertThat(countUnpublished()).isEqualTo(2);
+
+        outboxEventRepository.deleteAllById(List.of(pending.get(0).getId(), pending.get(1).getId()));
+    }
+
+    private long countUnpublished() {
+        return outboxEventRepository.findAll().stream()
+                .filter(event -> event.getPublishedAt() == null)
+                .count();
+    }
+
+    private String fillCart() {
+        String userId = "user-" + UUID.randomUUID();
+        cartStore.add(userId, "product-1", 1, Money.of(new BigDecimal("19.99")));
+        return userId;
+    }
+}
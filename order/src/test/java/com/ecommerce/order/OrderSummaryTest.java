@@ -0,0 +1,142 @@
+package com.ecommerce.order;
+
+import com.ecommerce.order.cart.CartStore;
+import com.ecommerce.order.dto.OrderItemDTO;
+import com.ecommerce.order.dto.OrderResponse;
+import com.ecommerce.order.dto.OrderTransitionRequest;
+import com.ecommerce.order.model.Money;
+import com.ecommerce.order.model.OrderStatus;
+import com.ecommerce.order.repository.OrderSummaryRepository;
+import com.ecommerce.order.service.OrderService;
+import com.ecommerce.order.service.OrderSummaryService;
+import com.ecommerce.order.service.OrderTransitionService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.cloud.config.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "order.outbox.publisher=in-memory"
+})
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("Order Summary Projection Tests")
+class OrderSummaryTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:14");
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderTransitionService orderTransitionService;
+
+    @Autowired
+    private OrderSummaryService orderSummaryService;
+
+    @Autowired
+    private OrderSummaryRepository orderSummaryRepository;
+
+    @Autowired
+    private CartStore cartStore;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private String userId;
+    private OrderResponse placed;
+
+    @BeforeEach
+    void setUp() {
+        userId = "user-" + UUID.randomUUID();
+        cartStore.add(userId, "product-1", 3, Money.of(new BigDecimal("4.50")));
+        cartStore.add(userId, "product-2", 1, Money.of(new BigDecimal("20.00")));
+        placed = orderService.createOrder(userId).orElseThrow();
+    }
+
+    @Test
+    @DisplayName("Should serve order detail from the projection in one query without loading entities")
+    void getOrder_ShouldReadProjection() {
+        // Arrange
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // Act
+        OrderResponse order = orderService.getOrder(userId, placed.getId()).orElseThrow();
+
+        // Assert
+        assertThat(order.getId()).isEqualTo(placed.getId());
+        assertThat(order.getTotalAmount()).isEqualTo(placed.getTotalAmount());
+        assertThat(order.getStatus()).isEqualTo(OrderStatus.CONFIRMED);
+        assertThat(order.getItems()).hasSize(2);
+        assertThat(order.getItems())
+                .extracting(OrderItemDTO::getSubTotal)
+                .containsExactlyInAnyOrder(Money.of(new BigDecimal("13.50")), Money.of(new BigDecimal("20.00")));
+        assertThat(order.getTotalAmount()).isEqualTo(Money.of(new BigDecimal("33.50")));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should not expose another user's order")
+    void getOrder_WhenOtherUser_ShouldReturnEmpty() {
+        assertThat(orderService.getOrder("someone-else", placed.getId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should keep the projection status in step with bulk transitions")
+    void transition_ShouldUpdateProjection() {
+        // Arrange
+        OrderTransitionRequest request = new OrderTransitionRequest();
+        request.setOrderIds(List.of(placed.getId()));
+        request.setTargetStatus(OrderStatus.SHIPPED);
+
+        // Act
+        orderTransitionService.transition(request);
+
+        // Assert
+        assertThat(orderService.getOrder(userId, placed.getId()))
+                .get()
+                .extracting(OrderResponse::getStatus)
+                .isEqualTo(OrderStatus.SHIPPED);
+    }
+
+    @Test
+    @DisplayName("Should rebuild missing summaries from the orders table")
+    void backfillSummaries_ShouldRecreateMissingRows() {
+        // Arrange
+        transactionTemplate.executeWithoutResult(status -> orderSummaryRepository.deleteById(placed.getId()));
+        assertThat(orderService.getOrder(userId, placed.getId())).isEmpty();
+
+        // Act
+        orderSummaryService.backfillSummaries();
+
+        // Assert
+        OrderResponse order = orderService.getOrder(userId, placed.getId()).orElseThrow();
+        assertThat(order.getTotalAmount()).isEqualTo(placed.getTotalAmount());
+        assertThat(order.getItems()).hasSize(2);
+    }
+}
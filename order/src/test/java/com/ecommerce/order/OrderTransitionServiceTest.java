@@ -0,0 +1,210 @@
+package com.ecommerce.order;
+
+import com.ecommerce.order.config.OrderTransitionProperties;
+import com.ecommerce.order.dto.OrderTransitionRequest;
+import com.ecommerce.order.dto.OrderTransitionResponse;
+import com.ecommerce.order.dto.OrderTransitionResult;
+import com.ecommerce.order.dto.TransitionOutcome;
+import com.ecommerce.order.model.OrderStatus;
+import com.ecommerce.order.repository.OrderRepository;
+import com.ecommerce.order.service.OrderSummaryService;
+import com.ecommerce.order.service.OrderTransitionService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderTransitionService Unit Tests")
+class OrderTransitionServiceTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private OrderSummaryService orderSummaryService;
+
+    @Spy
+    private OrderTransitionProperties properties = new OrderTransitionProperties();
+
+    @InjectMocks
+    private OrderTransitionService orderTransitionService;
+
+    @Nested
+    @DisplayName("OrderStatus state machine")
+    class StateMachineTests {
+
+        @Test
+        @DisplayName("Should allow only forward lifecycle moves")
+        void canTransitionTo_ShouldFollowLifecycle() {
+            assertThat(OrderStatus.PENDING.canTransitionTo(OrderStatus.CONFIRMED)).isTrue();
+            assertThat(OrderStatus.CONFIRMED.canTransitionTo(OrderStatus.SHIPPED)).isTrue();
+            assertThat(OrderStatus.SHIPPED.canTransitionTo(OrderStatus.DELIVERED)).isTrue();
+            assertThat(OrderStatus.CONFIRMED.canTransitionTo(OrderStatus.CANCELLED)).isTrue();
+            assertThat(OrderStatus.SHIPPED.canTransitionTo(OrderStatus.CANCELLED)).isFalse();
+            assertThat(OrderStatus.DELIVERED.canTransitionTo(OrderStatus.SHIPPED)).isFalse();
+            assertThat(OrderStatus.CANCELLED.canTransitionTo(OrderStatus.CONFIRMED)).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("transition Tests")
+    class TransitionTests {
+
+        @Test
+        @DisplayName("Should report an outcome per id and update only valid ones")
+        void transition_ShouldReportOutcomePerId() {
+            // Arrange
+            when(orderRepository.lockStatuses(anyCollection())).thenReturn(List.of(
+                    new View(1L, "CONFIRMED"),
+                    new View(2L, "SHIPPED"),
+                    new View(3L, "DELIVERED")));
+            when(orderRepository.transition(anyCollection(), eq(OrderStatus.CONFIRMED), eq(OrderStatus.SHIPPED)))
+                    .thenReturn(1);
+
+            // Act
+            OrderTransitionResponse response = orderTransitionService.transition(
+                    request(OrderStatus.SHIPPED, 1L, 2L, 3L, 4L, 1L));
+
+            // Assert
+            assertThat(response.getTransitioned()).isEqualTo(1);
+            assertThat(response.getResults())
+                    .extracting(OrderTransitionResult::getOrderId, OrderTransitionResult::getOutcome)
+                    .containsExactly(
+                            tuple(1L, TransitionOutcome.TRANSITIONED),
+                            tuple(2L, TransitionOutcome.ALREADY_IN_STATUS),
+                            tuple(3L, TransitionOutcome.INVALID_TRANSITION),
+                            tuple(4L, TransitionOutcome.NOT_FOUND));
+            verify(orderRepository).transition(List.of(1L), OrderStatus.CONFIRMED, OrderStatus.SHIPPED);
+            verify(orderRepository, never()).findAllById(any());
+        }
+
+        @Test
+        @DisplayName("Should issue one update per source status")
+        void transition_ShouldGroupUpdatesBySourceStatus() {
+            // Arrange
+            when(orderRepository.lockStatuses(anyCollection())).thenReturn(List.of(
+                    new View(1L, "PENDING"),
+                    new View(2L, "CONFIRMED"),
+                    new View(3L, "PENDING")));
+            when(orderRepository.transition(anyCollection(), any(), eq(OrderStatus.CANCELLED)))
+                    .thenAnswer(invocation -> invocation.<List<Long>>getArgument(0).size());
+
+            // Act
+            OrderTransitionResponse response = orderTransitionService.transition(
+                    request(OrderStatus.CANCELLED, 1L, 2L, 3L));
+
+            // Assert
+            assertThat(response.getTransitioned()).isEqualTo(3);
+            verify(orderRepository).transition(List.of(1L, 3L), OrderStatus.PENDING, OrderStatus.CANCELLED);
+            verify(orderRepository).transition(List.of(2L), OrderStatus.CONFIRMED, OrderStatus.CANCELLED);
+            verify(orderSummaryService).recordTransition(List.of(1L, 3L), OrderStatus.PENDING, OrderStatus.CANCELLED);
+            verify(orderSummaryService).recordTransition(List.of(2L), OrderStatus.CONFIRMED, OrderStatus.CANCELLED);
+        }
+
+        @Test
+        @DisplayName("Should split large requests into chunks")
+        void transition_ShouldChunkIds() {
+            // Arrange
+            properties.setChunkSize(2);
+            when(orderRepository.lockStatuses(anyCollection())).thenAnswer(invocation ->
+                    invocation.<List<Long>>getArgument(0).stream()
+                            .map(id -> (OrderRepository.StatusView) new View(id, "CONFIRMED"))
+                            .toList());
+            when(orderRepository.transition(anyCollection(), eq(OrderStatus.CONFIRMED), eq(OrderStatus.SHIPPED)))
+                    .thenAnswer(invocation -> invocation.<List<Long>>getArgument(0).size());
+
+            // Act
+            OrderTransitionResponse response = orderTransitionService.transition(
+                    request(OrderStatus.SHIPPED, LongStream.rangeClosed(1, 5).boxed().toArray(Long[]::new)));
+
+            // Assert
+            assertThat(response.getTransitioned()).isEqualTo(5);
+            verify(orderRepository, times(3)).lockStatuses(anyCollection());
+            verify(orderRepository, times(3)).transition(anyCollection(), eq(OrderStatus.CONFIRMED), eq(OrderStatus.SHIPPED));
+        }
+
+        @Test
+        @DisplayName("Should lock chunks in ascending id order regardless of request order")
+        void transition_WithReversedIdsOverChunkSize_ShouldLockInIdOrder() {
+            // Arrange
+            properties.setChunkSize(2);
+            List<List<Long>> lockedChunks = new ArrayList<>();
+            when(orderRepository.lockStatuses(anyCollection())).thenAnswer(invocation -> {
+                List<Long> chunk = List.copyOf(invocation.getArgument(0));
+                lockedChunks.add(chunk);
+                return chunk.stream()
+                        .map(id -> (OrderRepository.StatusView) new View(id, "CONFIRMED"))
+                        .toList();
+            });
+            when(orderRepository.transition(anyCollection(), eq(OrderStatus.CONFIRMED), eq(OrderStatus.SHIPPED)))
+                    .thenAnswer(invocation -> invocation.<List<Long>>getArgument(0).size());
+
+            // Act
+            OrderTransitionResponse response = orderTransitionService.transition(
+                    request(OrderStatus.SHIPPED, 5L, 4L, 3L, 2L, 1L));
+
+            // Assert
+            assertThat(lockedChunks).containsExactly(List.of(1L, 2L), List.of(3L, 4L), List.of(5L));
+            assertThat(response.getResults())
+                    .extracting(OrderTransitionResult::getOrderId)
+                    .containsExactly(5L, 4L, 3L, 2L, 1L);
+            assertThat(response.getTransitioned()).isEqualTo(5);
+        }
+
+        @Test
+        @DisplayName("Should reject requests without ids or target")
+        void transition_WhenRequestIncomplete_ShouldThrow() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> orderTransitionService.transition(request(OrderStatus.SHIPPED)));
+            assertThrows(IllegalArgumentException.class,
+                    () -> orderTransitionService.transition(request(null, 1L)));
+            verifyNoInteractions(orderRepository);
+        }
+
+        @Test
+        @DisplayName("Should reject requests over the size limit")
+        void transition_WhenTooManyIds_ShouldThrow() {
+            properties.setMaxOrdersPerRequest(2);
+
+            assertThrows(IllegalArgumentException.class,
+                    () -> orderTransitionService.transition(request(OrderStatus.SHIPPED, 1L, 2L, 3L)));
+        }
+    }
+
+    private static OrderTransitionRequest request(OrderStatus target, Long... ids) {
+        OrderTransitionRequest request = new OrderTransitionRequest();
+        request.setTargetStatus(target);
+        request.setOrderIds(Arrays.asList(ids));
+        return request;
+    }
+
+    private record View(Long id, String status) implements OrderRepository.StatusView {
+        @Override
+        public Long getId() {
+            return id;
+        }
+
+        @Override
+        public String getStatus() {
+            return status;
+        }
+    }
+}
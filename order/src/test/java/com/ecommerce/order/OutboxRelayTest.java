@@ -0,0 +1,119 @@
+package com.ecommerce.order;
+
+import com.ecommerce.order.config.OutboxProperties;
+import com.ecommerce.order.model.OutboxEvent;
+import com.ecommerce.order.outbox.OutboxEventPublisher;
+import com.ecommerce.order.outbox.OutboxRelay;
+import com.ecommerce.order.repository.OutboxEventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Outbox Relay Tests")
+class OutboxRelayTest {
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private OutboxEventPublisher publisher;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private final OutboxProperties properties = new OutboxProperties();
+
+    private OutboxRelay outboxRelay;
+
+    @BeforeEach
+    void setUp() {
+        properties.setMaxAttempts(3);
+        properties.setRetryBackoff(Duration.ofSeconds(1));
+        properties.setMaxRetryBackoff(Duration.ofSeconds(3));
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        outboxRelay = new OutboxRelay(outboxEventRepository, publisher, properties, transactionTemplate);
+    }
+
+    @Test
+    @DisplayName("Should publish the events behind a failing one and schedule the failure for a retry")
+    void relay_WhenEventFails_ShouldContinueAndBackOff() {
+        // Arrange
+        OutboxEvent poison = event(1L, 0);
+        OutboxEvent next = event(2L, 0);
+        when(outboxEventRepository.lockUnpublished(any(LocalDateTime.class), anyInt()))
+                .thenReturn(List.of(poison, next));
+        doThrow(new IllegalStateException("broker down")).when(publisher).publish(poison);
+
+        // Act
+        outboxRelay.relay();
+
+        // Assert
+        verify(publisher).publish(next);
+        verify(outboxEventRepository).markPublished(eq(List.of(2L)), any(LocalDateTime.class));
+        ArgumentCaptor<LocalDateTime> lockedAt = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(outboxEventRepository).lockUnpublished(lockedAt.capture(), anyInt());
+        verify(outboxEventRepository).markFailed(1L, "broker down", lockedAt.getValue().plusSeconds(1));
+        verify(outboxEventRepository, never()).markParked(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should double the backoff per attempt up to the configured maximum")
+    void relay_WhenEventKeepsFailing_ShouldCapBackoff() {
+        // Arrange
+        OutboxEvent event = event(1L, 1);
+        when(outboxEventRepository.lockUnpublished(any(LocalDateTime.class), anyInt())).thenReturn(List.of(event));
+        doThrow(new IllegalStateException("broker down")).when(publisher).publish(event);
+
+        // Act
+        outboxRelay.relay();
+
+        // Assert
+        ArgumentCaptor<LocalDateTime> lockedAt = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(outboxEventRepository).lockUnpublished(lockedAt.capture(), anyInt());
+        verify(outboxEventRepository).markFailed(1L, "broker down", lockedAt.getValue().plusSeconds(2));
+    }
+
+    @Test
+    @DisplayName("Should park an event once it runs out of attempts")
+    void relay_WhenAttemptsExhausted_ShouldParkEvent() {
+        // Arrange
+        OutboxEvent event = event(1L, 2);
+        when(outboxEventRepository.lockUnpublished(any(LocalDateTime.class), anyInt())).thenReturn(List.of(event));
+        doThrow(new IllegalStateException("bad payload")).when(publisher).publish(event);
+
+        // Act
+        outboxRelay.relay();
+
+        // Assert
+        verify(outboxEventRepository).markParked(eq(1L), eq("bad payload"), any(LocalDateTime.class));
+        verify(outboxEventRepository, never()).markFailed(any(), anyString(), any());
+        verify(outboxEventRepository, never()).markPublished(any(), any());
+    }
+
+    private OutboxEvent event(Long id, int attempts) {
+        OutboxEvent event = new OutboxEvent();
+        event.setId(id);
+        event.setEventType("OrderPlaced");
+        event.setAttempts(attempts);
+        return event;
+    }
+}
@@ -0,0 +1,138 @@
+package com.ecommerce.order;
+
+import com.ecommerce.order.client.ProductLookupClient;
+import com.ecommerce.order.config.ProductClientProperties;
+import com.ecommerce.order.dto.ProductResponse;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("ProductLookupClient Tests")
+class ProductLookupClientTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicInteger batchRequests = new AtomicInteger();
+    private final List<List<Long>> requestedIds = new CopyOnWriteArrayList<>();
+    private final Map<Long, ProductResponse> catalog = Map.of(
+            1L, createProduct(1L, "19.99", 5, true),
+            2L, createProduct(2L, "5.00", 0, true),
+            3L, createProduct(3L, "7.50", 10, false));
+
+    private HttpServer server;
+    private ProductLookupClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/api/products/batch", exchange -> {
+            batchRequests.incrementAndGet();
+            List<Long> ids = objectMapper.readValue(exchange.getRequestBody(), new TypeReference<>() {});
+            requestedIds.add(ids);
+            List<ProductResponse> found = new ArrayList<>();
+            ids.stream().filter(catalog::containsKey).forEach(id -> found.add(catalog.get(id)));
+            byte[] body = objectMapper.writeValueAsBytes(found);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+
+        ProductClientProperties properties = new ProductClientProperties();
+        properties.setBaseUrl("http://localhost:" + server.getAddress().getPort());
+        properties.setBatchWindow(Duration.ofMillis(50));
+        properties.setCacheTtl(Duration.ofMinutes(1));
+        client = new ProductLookupClient(RestClient.builder(), properties, false);
+    }
+
+    @AfterEach
+    void tearDown() {
+        client.shutdown();
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("Should coalesce concurrent lookups into one batched request")
+    void shouldCoalesceConcurrentLookups() {
+        // Act
+        List<CompletableFuture<Optional<ProductResponse>>> futures = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            futures.add(client.lookup(String.valueOf(i % 4 + 1)));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+        // Assert
+        assertThat(batchRequests.get()).isEqualTo(1);
+        assertThat(requestedIds.get(0)).containsExactlyInAnyOrder(1L, 2L, 3L, 4L);
+        assertThat(futures.get(0).join()).map(ProductResponse::getPrice).contains(new BigDecimal("19.99"));
+        assertThat(futures.get(1).join()).map(ProductResponse::getStockQuantity).contains(0);
+        assertThat(futures.get(2).join()).as("inactive product").isEmpty();
+        assertThat(futures.get(3).join()).as("unknown product").isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should serve repeated lookups from the local cache")
+    void shouldServeRepeatedLookupsFromCache() {
+        // Act
+        Optional<ProductResponse> first = client.getProduct("1");
+        Optional<ProductResponse> second = client.getProduct("1");
+
+        // Assert
+        assertThat(first).isPresent();
+        assertThat(second).isPresent();
+        assertThat(batchRequests.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should not call product-service for non-numeric ids")
+    void shouldSkipNonNumericIds() {
+        // Act
+        Optional<ProductResponse> result = client.getProduct("not-a-number");
+
+        // Assert
+        assertThat(result).isEmpty();
+        assertThat(batchRequests.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should fail lookups when product-service is unreachable")
+    void shouldFailWhenProductServiceUnreachable() {
+        // Arrange
+        server.stop(0);
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> client.getProduct("1"));
+    }
+
+    private static ProductResponse createProduct(Long id, String price, int stock, boolean active) {
+        ProductResponse product = new ProductResponse();
+        product.setId(id);
+        product.setName("Product " + id);
+        product.setPrice(new BigDecimal(price));
+        product.setStockQuantity(stock);
+        product.setActive(active);
+        return product;
+    }
+}
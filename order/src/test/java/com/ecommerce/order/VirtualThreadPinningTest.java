@@ -0,0 +1,134 @@
+package com.ecommerce.order;
+
+import com.ecommerce.order.cart.CartStore;
+import com.ecommerce.order.client.ProductLookupClient;
+import com.ecommerce.order.config.CartStoreProperties;
+import com.ecommerce.order.dto.CartItemRequest;
+import com.ecommerce.order.dto.ProductResponse;
+import com.ecommerce.order.repository.CartItemRepository;
+import com.ecommerce.order.service.CartService;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+/**
+ * Drives the cart write path (CartStore locks, JdbcTemplate, HikariCP, pgjdbc) from thousands of
+ * virtual threads and fails if JFR reports any of them pinned to its carrier.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.cloud.config.enabled=false",
+        "spring.threads.virtual.enabled=true",
+        "order.cart.durability=write-through"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({CartService.class, CartStore.class})
+@EnableConfigurationProperties(CartStoreProperties.class)
+@Testcontainers(disabledWithoutDocker = true)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Virtual Thread Pinning Tests")
+class VirtualThreadPinningTest {
+
+    private static final int TASKS = 2000;
+    private static final int USERS = 200;
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:14");
+
+    @Autowired
+    private CartService cartService;
+
+    @Autowired
+    private CartItemRepository cartItemRepository;
+
+    @MockitoBean
+    private ProductLookupClient productLookupClient;
+
+    @BeforeEach
+    void setUp() {
+        cartItemRepository.deleteAll();
+        ProductResponse product = new ProductResponse();
+        product.setPrice(BigDecimal.TEN);
+        product.setStockQuantity(Integer.MAX_VALUE);
+        product.setActive(true);
+        when(productLookupClient.getProduct(anyString())).thenReturn(Optional.of(product));
+    }
+
+    @Test
+    @DisplayName("Should not pin virtual threads on the cart JDBC path")
+    void cartWrites_OnVirtualThreads_ShouldNotPin() throws Exception {
+        // Arrange
+        Queue<String> pinned = new ConcurrentLinkedQueue<>();
+        try (RecordingStream recording = new RecordingStream()) {
+            recording.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ZERO).withStackTrace();
+            recording.onEvent("jdk.VirtualThreadPinned", event -> pinned.add(event.getStackTrace() == null
+                    ? "<no stack trace>"
+                    : event.getStackTrace().getFrames().stream()
+                            .limit(8)
+                            .map(RecordedFrame::getMethod)
+                            .map(method -> method.getType().getName() + "." + method.getName())
+                            .collect(Collectors.joining(" <- "))));
+            recording.startAsync();
+
+            // Act
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                List<Future<?>> futures = new ArrayList<>();
+                for (int i = 0; i < TASKS; i++) {
+                    String userId = "user-" + (i % USERS);
+                    String productId = "product-" + (i % 7);
+                    futures.add(executor.submit(() -> {
+                        cartService.addToCart(userId, createCartItemRequest(productId));
+                        cartService.flushCart(userId);
+                        return cartService.getCartForCheckout(userId);
+                    }));
+                }
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            }
+            recording.stop();
+        }
+
+        // Assert
+        assertThat(pinned).isEmpty();
+        assertThat(cartItemRepository.count()).isEqualTo(USERS * 7L);
+    }
+
+    private CartItemRequest createCartItemRequest(String productId) {
+        CartItemRequest request = new CartItemRequest();
+        request.setProductId(productId);
+        request.setQuantity(1);
+        return request;
+    }
+}
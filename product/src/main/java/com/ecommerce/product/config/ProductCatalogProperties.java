@@ -0,0 +1,16 @@
+package com.ecommerce.product.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "product.catalog")
+public class ProductCatalogProperties {
+    private int pageSize = 50;
+    private int maxPageSize = 500;
+    private int maxBatchSize = 500;
+    private Duration versionTtl = Duration.ofSeconds(1);
+    private Duration changesSettleWindow = Duration.ofSeconds(2);
+}
@@ -0,0 +1,12 @@
+package com.ecommerce.product.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "product.import")
+public class ProductImportProperties {
+    private int batchSize = 500;
+    private int maxErrors = 1000;
+    private int maxLineLength = 65536;
+}
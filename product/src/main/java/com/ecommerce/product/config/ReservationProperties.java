@@ -0,0 +1,15 @@
+package com.ecommerce.product.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "product.reservation")
+public class ReservationProperties {
+    private Duration defaultTtl = Duration.ofMinutes(10);
+    private Duration maxTtl = Duration.ofHours(1);
+    private int lockStripes = 64;
+    private int expiryBatchSize = 500;
+}
@@ -1,14 +1,31 @@
 package com.ecommerce.product.controller;
 
+import com.ecommerce.product.dto.CacheRegionStats;
+import com.ecommerce.product.dto.ImportFormat;
+import com.ecommerce.product.dto.ProductChanges;
+import com.ecommerce.product.dto.ProductImportResult;
+import com.ecommerce.product.dto.ProductPage;
 import com.ecommerce.product.dto.ProductRequest;
 import com.ecommerce.product.dto.ProductResponse;
+import com.ecommerce.product.service.CatalogCacheService;
+import com.ecommerce.product.service.ProductImportService;
 import com.ecommerce.product.service.ProductService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @RestController
 @RequiredArgsConstructor
@@ -16,6 +33,9 @@ import java.util.List;
 public class ProductController {
 
     private final ProductService productService;
+    private final CatalogCacheService catalogCacheService;
+    private final ProductImportService productImportService;
+    private final ObjectMapper objectMapper;
 
     @PostMapping
     public ResponseEntity<ProductResponse> createProduct(@RequestBody ProductRequest productRequest){
@@ -23,12 +43,68 @@ public class ProductController {
                 HttpStatus.CREATED);
     }
 
+    @PostMapping(value = "/import", consumes = "text/csv")
+    public ResponseEntity<ProductImportResult> importCsv(InputStream body) throws IOException {
+        return ResponseEntity.ok(productImportService.importProducts(body, ImportFormat.CSV));
+    }
+
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<ProductImportResult> importNdjson(InputStream body) throws IOException {
+        return ResponseEntity.ok(productImportService.importProducts(body, ImportFormat.NDJSON));
+    }
+
     @GetMapping
-    public ResponseEntity<List<ProductResponse>> getProducts(){
-        return ResponseEntity.ok(productService.getAllProducts());
+    public ResponseEntity<ProductPage> getProducts(@RequestParam(required = false) String cursor,
+                                                   @RequestParam(required = false) Integer size,
+                                                   WebRequest request){
+        if (request.checkNotModified(productService.getPageEtag(cursor, size))) {
+            return null;
+        }
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(productService.getProducts(cursor, size));
+    }
+
+    @GetMapping("/changes")
+    public ResponseEntity<ProductChanges> getChanges(@RequestParam(required = false) String since,
+                                                     @RequestParam(required = false) Integer size){
+        return ResponseEntity.ok(productService.getChanges(since, size));
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportProducts(){
+        StreamingResponseBody body = outputStream -> productService.exportActiveProducts(product -> {
+            try {
+                outputStream.write(objectMapper.writeValueAsBytes(product));
+                outputStream.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
     }
 
 
+    @GetMapping("/{id}")
+    public ResponseEntity<ProductResponse> getProduct(@PathVariable Long id, WebRequest request){
+        Optional<ProductResponse> product = productService.getProduct(id);
+        if (product.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        if (request.checkNotModified(productService.getProductEtag(product.get()))) {
+            return null;
+        }
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(product.get());
+    }
+
+    @GetMapping("/cache/stats")
+    public ResponseEntity<List<CacheRegionStats>> getCacheStats(){
+        return ResponseEntity.ok(catalogCacheService.getRegionStats());
+    }
+
+    @PostMapping("/batch")
+    public ResponseEntity<List<ProductResponse>> getProductsByIds(@RequestBody Collection<Long> ids){
+        return ResponseEntity.ok(productService.getProductsByIds(ids));
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<ProductResponse> updateProduct(@PathVariable Long id, @RequestBody ProductRequest productRequest){
         return productService.updateProduct(id, productRequest).map(ResponseEntity::ok).orElseGet(()->ResponseEntity.notFound().build());
@@ -45,4 +121,9 @@ public class ProductController {
         return ResponseEntity.ok(productService.searchProducts(keyword));
     }
 
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> handleBadRequest(IllegalArgumentException e){
+        return ResponseEntity.badRequest().body(e.getMessage());
+    }
+
 }
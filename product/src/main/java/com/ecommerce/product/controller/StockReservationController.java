@@ -0,0 +1,39 @@
+package com.ecommerce.product.controller;
+
+import com.ecommerce.product.dto.StockReservationRequest;
+import com.ecommerce.product.dto.StockReservationResponse;
+import com.ecommerce.product.service.StockReservationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/stock/reservations")
+public class StockReservationController {
+
+    private final StockReservationService reservationService;
+
+    @PostMapping
+    public ResponseEntity<StockReservationResponse> reserve(@RequestBody StockReservationRequest request){
+        return reservationService.reserve(request)
+                .map(reservation -> new ResponseEntity<>(reservation, HttpStatus.CREATED))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.CONFLICT).build());
+    }
+
+    @PostMapping("/{reservationId}/commit")
+    public ResponseEntity<Void> commit(@PathVariable String reservationId){
+        return reservationService.commit(reservationId) ? ResponseEntity.noContent().build() : ResponseEntity.notFound().build();
+    }
+
+    @DeleteMapping("/{reservationId}")
+    public ResponseEntity<Void> release(@PathVariable String reservationId){
+        return reservationService.release(reservationId) ? ResponseEntity.noContent().build() : ResponseEntity.notFound().build();
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> handleBadRequest(IllegalArgumentException e){
+        return ResponseEntity.badRequest().body(e.getMessage());
+    }
+}
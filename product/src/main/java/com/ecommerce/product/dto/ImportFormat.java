@@ -0,0 +1,6 @@
+package com.ecommerce.product.dto;
+
+public enum ImportFormat {
+    CSV,
+    NDJSON
+}
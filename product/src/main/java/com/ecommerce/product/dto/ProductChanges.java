@@ -0,0 +1,14 @@
+package com.ecommerce.product.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class ProductChanges {
+    private List<ProductResponse> items;
+    private String nextCursor;
+    private boolean hasMore;
+}
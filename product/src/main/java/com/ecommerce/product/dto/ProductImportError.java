@@ -0,0 +1,11 @@
+package com.ecommerce.product.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class ProductImportError {
+    private long line;
+    private String message;
+}
@@ -0,0 +1,16 @@
+package com.ecommerce.product.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class ProductImportResult {
+    private long processed;
+    private long imported;
+    private long rejected;
+    private List<ProductImportError> errors;
+    private boolean errorsTruncated;
+}
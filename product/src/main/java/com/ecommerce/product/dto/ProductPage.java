@@ -0,0 +1,13 @@
+package com.ecommerce.product.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class ProductPage {
+    private List<ProductResponse> items;
+    private String nextCursor;
+}
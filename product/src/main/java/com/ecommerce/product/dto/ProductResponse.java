@@ -3,6 +3,8 @@ package com.ecommerce.product.dto;
 import lombok.Data;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
 @Data
 
 public class ProductResponse {
@@ -14,4 +16,5 @@ public class ProductResponse {
     private String category;
     private String imageUrl;
     private Boolean active;
+    private LocalDateTime updatedAt;
 }
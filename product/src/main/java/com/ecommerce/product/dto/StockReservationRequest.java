@@ -0,0 +1,11 @@
+package com.ecommerce.product.dto;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class StockReservationRequest {
+    private List<StockReservationItem> items;
+    private Long ttlSeconds;
+}
@@ -0,0 +1,17 @@
+package com.ecommerce.product.dto;
+
+import com.ecommerce.product.model.ReservationStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class StockReservationResponse {
+    private String reservationId;
+    private ReservationStatus status;
+    private LocalDateTime expiresAt;
+    private List<StockReservationItem> items;
+}
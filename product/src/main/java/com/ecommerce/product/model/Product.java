@@ -4,8 +4,12 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -13,9 +17,14 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity(name="products")
+@Table(indexes = @Index(name = "idx_products_updated_at", columnList = "updated_at, id"))
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Product.CACHE_REGION)
 @Data
 @NoArgsConstructor
 public class Product {
+    public static final String CACHE_REGION = "product";
+    public static final String QUERY_CACHE_REGION = "product-queries";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
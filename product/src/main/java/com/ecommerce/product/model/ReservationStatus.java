@@ -0,0 +1,5 @@
+package com.ecommerce.product.model;
+
+public enum ReservationStatus {
+    RESERVED, COMMITTED, RELEASED, EXPIRED
+}
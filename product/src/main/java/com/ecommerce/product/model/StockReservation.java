@@ -0,0 +1,32 @@
+package com.ecommerce.product.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "stock_reservations", indexes = {
+        @Index(name = "idx_stock_reservations_reservation_id", columnList = "reservation_id"),
+        @Index(name = "idx_stock_reservations_status_expires_at", columnList = "status, expires_at")
+})
+@Data
+@NoArgsConstructor
+public class StockReservation {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    private String reservationId;
+    private Long productId;
+    private Integer quantity;
+    @Enumerated(EnumType.STRING)
+    private ReservationStatus status = ReservationStatus.RESERVED;
+    private LocalDateTime expiresAt;
+    @CreationTimestamp
+    private LocalDateTime createdAt;
+    @UpdateTimestamp
+    private LocalDateTime updatedAt;
+}
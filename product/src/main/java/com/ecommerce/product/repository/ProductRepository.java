@@ -1,16 +1,63 @@
 package com.ecommerce.product.repository;
 
 import com.ecommerce.product.model.Product;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface ProductRepository extends JpaRepository<Product, Long> {
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = Product.QUERY_CACHE_REGION)
+    })
     List<Product> findByActiveTrue();
-    @Query("SELECT p FROM products p WHERE p.active = true AND p.stockQuantity>0 AND LOWER(p.name) LIKE LOWER(CONCAT('%', :keyword, '%'))")
-    List<Product> searchProducts(@Param("keyword") String keyword);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = Product.QUERY_CACHE_REGION)
+    })
+    List<Product> findByActiveTrueAndIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    List<Product> findByIdIn(Collection<Long> ids);
+
+    @Query("SELECT p FROM products p WHERE p.active = true ORDER BY p.id")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Product> streamActiveProducts();
+
+    @Query("SELECT max(p.updatedAt) FROM products p")
+    LocalDateTime findLatestUpdate();
+
+    @Query("SELECT p FROM products p WHERE (p.updatedAt > :since OR (p.updatedAt = :since AND p.id > :afterId)) " +
+            "AND p.updatedAt <= :until ORDER BY p.updatedAt, p.id")
+    List<Product> findChangedSince(@Param("since") LocalDateTime since, @Param("afterId") Long afterId,
+                                   @Param("until") LocalDateTime until, Limit limit);
+
+    /**
+     * {@code now} comes from the JVM, like {@code @UpdateTimestamp} and the changes feed cursor, so
+     * every updated_at is stamped by the same clock.
+     */
+    @Modifying
+    @Query("UPDATE products p SET p.stockQuantity = p.stockQuantity - :quantity, p.updatedAt = :now " +
+            "WHERE p.id = :id AND p.active = true AND p.stockQuantity >= :quantity")
+    int decrementStock(@Param("id") Long id, @Param("quantity") int quantity, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE products p SET p.stockQuantity = p.stockQuantity + :quantity, p.updatedAt = :now " +
+            "WHERE p.id = :id")
+    int incrementStock(@Param("id") Long id, @Param("quantity") int quantity, @Param("now") LocalDateTime now);
 }
@@ -0,0 +1,35 @@
+package com.ecommerce.product.repository;
+
+import com.ecommerce.product.model.ReservationStatus;
+import com.ecommerce.product.model.StockReservation;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface StockReservationRepository extends JpaRepository<StockReservation, Long> {
+    List<StockReservation> findByReservationIdAndStatus(String reservationId, ReservationStatus status);
+
+    List<StockReservation> findByStatusAndExpiresAtBefore(ReservationStatus status, LocalDateTime time, Limit limit);
+
+    @Modifying
+    @Query("UPDATE StockReservation r SET r.status = :to, r.updatedAt = :now " +
+            "WHERE r.reservationId = :reservationId AND r.status = :from")
+    int transition(@Param("reservationId") String reservationId,
+                   @Param("from") ReservationStatus from,
+                   @Param("to") ReservationStatus to,
+                   @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE StockReservation r SET r.status = com.ecommerce.product.model.ReservationStatus.COMMITTED, " +
+            "r.updatedAt = :now " +
+            "WHERE r.reservationId = :reservationId " +
+            "AND r.status = com.ecommerce.product.model.ReservationStatus.RESERVED AND r.expiresAt > :now")
+    int commit(@Param("reservationId") String reservationId, @Param("now") LocalDateTime now);
+}
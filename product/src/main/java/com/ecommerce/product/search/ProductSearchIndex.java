@@ -0,0 +1,199 @@
+package com.ecommerce.product.search;
+
+import com.ecommerce.product.dto.ProductResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-process inverted index over the active catalog. Name, category and description
+ * are tokenized into a sorted term dictionary so keyword lookups (including prefixes)
+ * never touch the products table.
+ *
+ * <p>Indexed products are stored as private copies that are never modified once published: a stock
+ * adjustment replaces the entry with a new copy. Results handed out by {@link #search} can therefore
+ * be serialized without holding the index lock.
+ */
+@Component
+public class ProductSearchIndex {
+
+    private static final int NAME_WEIGHT = 3;
+    private static final int CATEGORY_WEIGHT = 2;
+    private static final int DESCRIPTION_WEIGHT = 1;
+    private static final int EXACT_MATCH_BOOST = 2;
+
+    private final int maxResults;
+    private final NavigableMap<String, Map<Long, Integer>> postings = new TreeMap<>();
+    private final Map<Long, Set<String>> documentTerms = new HashMap<>();
+    private final Map<Long, ProductResponse> documents = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public ProductSearchIndex(@Value("${product.search.max-results:100}") int maxResults) {
+        this.maxResults = maxResults;
+    }
+
+    public void rebuild(Collection<ProductResponse> products) {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documentTerms.clear();
+            documents.clear();
+            products.forEach(this::addDocument);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void index(ProductResponse product) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(product.getId());
+            addDocument(product);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long productId) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(productId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void adjustStock(Long productId, int delta) {
+        lock.writeLock().lock();
+        try {
+            ProductResponse product = documents.get(productId);
+            if (product != null && product.getStockQuantity() != null) {
+                ProductResponse adjusted = copyOf(product);
+                adjusted.setStockQuantity(product.getStockQuantity() + delta);
+                documents.put(productId, adjusted);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns in-stock products matching every keyword token, best score first.
+     * Each token matches indexed terms by prefix; exact term hits score higher.
+     */
+    public List<ProductResponse> search(String keyword) {
+        Set<String> tokens = new LinkedHashSet<>(tokenize(keyword));
+        if (tokens.isEmpty()) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            Map<Long, Integer> scores = null;
+            for (String token : tokens) {
+                Map<Long, Integer> tokenScores = scoreToken(token);
+                if (scores == null) {
+                    scores = tokenScores;
+                } else {
+                    scores.keySet().retainAll(tokenScores.keySet());
+                    scores.replaceAll((id, score) -> score + tokenScores.get(id));
+                }
+                if (scores.isEmpty()) {
+                    return List.of();
+                }
+            }
+            return scores.entrySet().stream()
+                    .filter(entry -> isInStock(documents.get(entry.getKey())))
+                    .sorted(Map.Entry.<Long, Integer>comparingByValue().reversed()
+                            .thenComparing(Map.Entry.comparingByKey()))
+                    .limit(maxResults)
+                    .map(entry -> documents.get(entry.getKey()))
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        List<String> tokens = new ArrayList<>();
+        for (String token : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private Map<Long, Integer> scoreToken(String token) {
+        Map<Long, Integer> tokenScores = new HashMap<>();
+        postings.subMap(token, true, token + Character.MAX_VALUE, false).forEach((term, postingList) -> {
+            int boost = term.equals(token) ? EXACT_MATCH_BOOST : 1;
+            postingList.forEach((id, weight) -> tokenScores.merge(id, weight * boost, Math::max));
+        });
+        return tokenScores;
+    }
+
+    private void addDocument(ProductResponse product) {
+        if (product.getId() == null || !Boolean.TRUE.equals(product.getActive())) {
+            return;
+        }
+        Map<String, Integer> termWeights = new HashMap<>();
+        tokenize(product.getName()).forEach(term -> termWeights.merge(term, NAME_WEIGHT, Integer::sum));
+        tokenize(product.getCategory()).forEach(term -> termWeights.merge(term, CATEGORY_WEIGHT, Integer::sum));
+        tokenize(product.getDescription()).forEach(term -> termWeights.merge(term, DESCRIPTION_WEIGHT, Integer::sum));
+
+        termWeights.forEach((term, weight) ->
+                postings.computeIfAbsent(term, t -> new HashMap<>()).put(product.getId(), weight));
+        documentTerms.put(product.getId(), termWeights.keySet());
+        documents.put(product.getId(), copyOf(product));
+    }
+
+    private void removeDocument(Long productId) {
+        Set<String> terms = documentTerms.remove(productId);
+        documents.remove(productId);
+        if (terms == null) {
+            return;
+        }
+        for (String term : terms) {
+            Map<Long, Integer> postingList = postings.get(term);
+            if (postingList != null) {
+                postingList.remove(productId);
+                if (postingList.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+
+    private static ProductResponse copyOf(ProductResponse product) {
+        ProductResponse copy = new ProductResponse();
+        copy.setId(product.getId());
+        copy.setName(product.getName());
+        copy.setDescription(product.getDescription());
+        copy.setPrice(product.getPrice());
+        copy.setStockQuantity(product.getStockQuantity());
+        copy.setCategory(product.getCategory());
+        copy.setImageUrl(product.getImageUrl());
+        copy.setActive(product.getActive());
+        copy.setUpdatedAt(product.getUpdatedAt());
+        return copy;
+    }
+
+    private boolean isInStock(ProductResponse product) {
+        return product.getStockQuantity() != null && product.getStockQuantity() > 0;
+    }
+}
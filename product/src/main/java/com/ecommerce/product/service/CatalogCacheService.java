@@ -0,0 +1,51 @@
+package com.ecommerce.product.service;
+
+import com.ecommerce.product.dto.CacheRegionStats;
+import com.ecommerce.product.model.Product;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Reports Hibernate second-level and query cache statistics per region, for sizing the regions
+ * configured in application.conf. Counters are only collected when hibernate.generate_statistics is on.
+ */
+@Service
+@RequiredArgsConstructor
+public class CatalogCacheService {
+    private final EntityManagerFactory entityManagerFactory;
+
+    public List<CacheRegionStats> getRegionStats() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        return Arrays.stream(statistics.getSecondLevelCacheRegionNames())
+                .sorted()
+                .map(statistics::getCacheRegionStatistics)
+                .filter(Objects::nonNull)
+                .map(this::toRegionStats)
+                .toList();
+    }
+
+    /**
+     * Drops cached catalog query results after products were written behind Hibernate's back,
+     * e.g. by a JDBC batch import. Cached product entities stay valid.
+     */
+    public void evictCatalogQueries() {
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictQueryRegion(Product.QUERY_CACHE_REGION);
+    }
+
+    private CacheRegionStats toRegionStats(CacheRegionStatistics region) {
+        return new CacheRegionStats(
+                region.getRegionName(),
+                region.getHitCount(),
+                region.getMissCount(),
+                region.getPutCount(),
+                region.getElementCountInMemory());
+    }
+}
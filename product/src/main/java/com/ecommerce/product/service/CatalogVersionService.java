@@ -0,0 +1,58 @@
+package com.ecommerce.product.service;
+
+import com.ecommerce.product.config.ProductCatalogProperties;
+import com.ecommerce.product.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Tracks the catalog version, which is the latest {@code updated_at} across all products. The value is
+ * kept in memory so conditional GETs can be answered without touching the product table. Local writes
+ * drop it immediately, and writes from other instances are picked up once the version TTL elapses.
+ */
+@Service
+@RequiredArgsConstructor
+public class CatalogVersionService {
+
+    private static final LocalDateTime EMPTY_CATALOG = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final ProductRepository productRepository;
+    private final ProductCatalogProperties catalogProperties;
+
+    private volatile Snapshot snapshot;
+
+    public LocalDateTime latestUpdate() {
+        Snapshot current = snapshot;
+        if (current == null || current.isExpired()) {
+            LocalDateTime latest = productRepository.findLatestUpdate();
+            current = new Snapshot(latest == null ? EMPTY_CATALOG : latest.truncatedTo(ChronoUnit.MICROS),
+                    System.nanoTime() + catalogProperties.getVersionTtl().toNanos());
+            snapshot = current;
+        }
+        return current.latestUpdate();
+    }
+
+    public String currentVersion() {
+        return versionOf(latestUpdate());
+    }
+
+    public static String versionOf(LocalDateTime updatedAt) {
+        if (updatedAt == null) {
+            return "0";
+        }
+        return Long.toString(ChronoUnit.MICROS.between(EMPTY_CATALOG, updatedAt.truncatedTo(ChronoUnit.MICROS)), 36);
+    }
+
+    public void invalidate() {
+        snapshot = null;
+    }
+
+    private record Snapshot(LocalDateTime latestUpdate, long expiresAtNanos) {
+        boolean isExpired() {
+            return System.nanoTime() - expiresAtNanos > 0;
+        }
+    }
+}
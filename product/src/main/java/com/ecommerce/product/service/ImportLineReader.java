@@ -0,0 +1,66 @@
+package com.ecommerce.product.service;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Reads an import body one line at a time without letting a single oversized line grow the buffer:
+ * anything past {@code maxLength} is skipped and the line is reported as rejected.
+ */
+class ImportLineReader {
+
+    private final Reader reader;
+    private final int maxLength;
+    private final StringBuilder buffer = new StringBuilder();
+    private long lineNumber;
+    private boolean eof;
+
+    ImportLineReader(Reader reader, int maxLength) {
+        this.reader = reader;
+        this.maxLength = maxLength;
+    }
+
+    /**
+     * Returns the next line without its terminator, or null at the end of the input.
+     *
+     * @throws IllegalArgumentException if the line is longer than the limit; the line is consumed
+     */
+    String readLine() throws IOException {
+        if (eof) {
+            return null;
+        }
+        buffer.setLength(0);
+        boolean oversized = false;
+        int c;
+        while ((c = reader.read()) != -1 && c != '\n') {
+            if (buffer.length() < maxLength) {
+                buffer.append((char) c);
+            } else {
+                oversized = true;
+            }
+        }
+        if (c == -1) {
+            eof = true;
+            if (buffer.isEmpty() && !oversized) {
+                return null;
+            }
+        }
+        lineNumber++;
+        if (oversized) {
+            throw new IllegalArgumentException("Line exceeds " + maxLength + " characters");
+        }
+        int length = buffer.length();
+        if (length > 0 && buffer.charAt(length - 1) == '\r') {
+            buffer.setLength(length - 1);
+        }
+        return buffer.toString();
+    }
+
+    long lineNumber() {
+        return lineNumber;
+    }
+
+    int maxLength() {
+        return maxLength;
+    }
+}
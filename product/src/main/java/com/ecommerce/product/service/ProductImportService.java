@@ -0,0 +1,345 @@
+package com.ecommerce.product.service;
+
+import com.ecommerce.product.config.ProductImportProperties;
+import com.ecommerce.product.dto.ImportFormat;
+import com.ecommerce.product.dto.ProductImportError;
+import com.ecommerce.product.dto.ProductImportResult;
+import com.ecommerce.product.dto.ProductRequest;
+import com.ecommerce.product.model.Product;
+import com.ecommerce.product.search.ProductSearchIndex;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+
+/**
+ * Loads products from a CSV or NDJSON body while it is still streaming in. Valid rows are buffered up
+ * to the batch size and written with one JDBC batch per transaction; invalid rows are reported by line
+ * number and skipped. Memory is bounded by the batch size, the line length limit and the error cap,
+ * never by the size of the upload.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductImportService {
+
+    private static final String INSERT_SQL = "INSERT INTO products (name, description, price, stock_quantity, " +
+            "category, image_url, active, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, true, ?, ?)";
+    private static final int MAX_TEXT_LENGTH = 255;
+    private static final Set<String> REQUIRED_COLUMNS = Set.of("name", "price", "stockquantity");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final ProductService productService;
+    private final ProductSearchIndex productSearchIndex;
+    private final CatalogCacheService catalogCacheService;
+    private final CatalogVersionService catalogVersionService;
+    private final ProductImportProperties properties;
+
+    public ProductImportResult importProducts(InputStream body, ImportFormat format) throws IOException {
+        ImportLineReader lines = new ImportLineReader(
+                new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8)), properties.getMaxLineLength());
+        ImportRun run = new ImportRun();
+        if (format == ImportFormat.CSV) {
+            readCsv(lines, run);
+        } else {
+            readNdjson(lines, run);
+        }
+        run.flush();
+        if (run.imported > 0) {
+            log.info("Imported {} products ({} rejected)", run.imported, run.rejected);
+        }
+        return run.result();
+    }
+
+    private void readNdjson(ImportLineReader lines, ImportRun run) throws IOException {
+        String line;
+        while ((line = nextLine(lines, run)) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            long lineNumber = lines.lineNumber();
+            try {
+                run.accept(lineNumber, validate(objectMapper.readValue(line, ProductRequest.class)));
+            } catch (JsonProcessingException e) {
+                run.reject(lineNumber, "Malformed JSON: " + e.getOriginalMessage());
+            } catch (IllegalArgumentException e) {
+                run.reject(lineNumber, e.getMessage());
+            }
+        }
+    }
+
+    private void readCsv(ImportLineReader lines, ImportRun run) throws IOException {
+        String headerLine = nextLine(lines, run);
+        if (headerLine == null) {
+            return;
+        }
+        if (headerLine.startsWith("\uFEFF")) {
+            headerLine = headerLine.substring(1);
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        List<String> header = parseCsvRecord(headerLine, lines);
+        for (int i = 0; i < header.size(); i++) {
+            columns.putIfAbsent(normalizeColumn(header.get(i)), i);
+        }
+        List<String> missing = REQUIRED_COLUMNS.stream().filter(column -> !columns.containsKey(column)).sorted().toList();
+        if (!missing.isEmpty()) {
+            throw new IllegalArgumentException("CSV header is missing required columns " + missing);
+        }
+
+        String line;
+        while ((line = nextLine(lines, run)) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            long lineNumber = lines.lineNumber();
+            try {
+                run.accept(lineNumber, validate(toRequest(parseCsvRecord(line, lines), columns)));
+            } catch (IllegalArgumentException e) {
+                run.reject(lineNumber, e.getMessage());
+            }
+        }
+    }
+
+    private String nextLine(ImportLineReader lines, ImportRun run) throws IOException {
+        while (true) {
+            try {
+                return lines.readLine();
+            } catch (IllegalArgumentException e) {
+                run.reject(lines.lineNumber(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Splits one RFC 4180 record. A quoted field may span lines, in which case the following lines are
+     * pulled from the reader, still bounded by the line length limit for the record as a whole.
+     */
+    private List<String> parseCsvRecord(String firstLine, ImportLineReader lines) throws IOException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        int recordLength = firstLine.length();
+        String line = firstLine;
+        while (true) {
+            for (int i = 0; i < line.length(); i++) {
+                char c = line.charAt(i);
+                if (quoted) {
+                    if (c != '"') {
+                        field.append(c);
+                    } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else {
+                    field.append(c);
+                }
+            }
+            if (!quoted) {
+                fields.add(field.toString());
+                return fields;
+            }
+            line = lines.readLine();
+            if (line == null) {
+                throw new IllegalArgumentException("Unterminated quoted field");
+            }
+            recordLength += line.length() + 1;
+            if (recordLength > lines.maxLength()) {
+                throw new IllegalArgumentException("Record exceeds " + lines.maxLength() + " characters");
+            }
+            field.append('\n');
+        }
+    }
+
+    private ProductRequest toRequest(List<String> fields, Map<String, Integer> columns) {
+        ProductRequest request = new ProductRequest();
+        request.setName(column(fields, columns, "name"));
+        request.setDescription(column(fields, columns, "description"));
+        request.setCategory(column(fields, columns, "category"));
+        request.setImageUrl(column(fields, columns, "imageurl"));
+        String price = column(fields, columns, "price");
+        String stockQuantity = column(fields, columns, "stockquantity");
+        try {
+            request.setPrice(price == null ? null : new BigDecimal(price));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("price is not a number: " + price);
+        }
+        try {
+            request.setStockQuantity(stockQuantity == null ? null : Integer.valueOf(stockQuantity));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("stockQuantity is not a whole number: " + stockQuantity);
+        }
+        return request;
+    }
+
+    private String column(List<String> fields, Map<String, Integer> columns, String name) {
+        Integer index = columns.get(name);
+        if (index == null || index >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(index).strip();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static String normalizeColumn(String column) {
+        return column.strip().replace("_", "").replace(" ", "").toLowerCase(Locale.ROOT);
+    }
+
+    private ProductRequest validate(ProductRequest request) {
+        if (request == null) {
+            throw new IllegalArgumentException("Row is empty");
+        }
+        if (request.getName() == null || request.getName().isBlank()) {
+            throw new IllegalArgumentException("name is required");
+        }
+        if (request.getPrice() == null || request.getPrice().signum() < 0) {
+            throw new IllegalArgumentException("price must be zero or positive");
+        }
+        if (request.getStockQuantity() == null || request.getStockQuantity() < 0) {
+            throw new IllegalArgumentException("stockQuantity must be zero or positive");
+        }
+        checkLength("name", request.getName());
+        checkLength("description", request.getDescription());
+        checkLength("category", request.getCategory());
+        checkLength("imageUrl", request.getImageUrl());
+        return request;
+    }
+
+    private void checkLength(String field, String value) {
+        if (value != null && value.length() > MAX_TEXT_LENGTH) {
+            throw new IllegalArgumentException(field + " exceeds " + MAX_TEXT_LENGTH + " characters");
+        }
+    }
+
+    private List<Long> insert(List<PendingRow> rows, LocalDateTime now) {
+        GeneratedKeyHolder keys = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(connection -> connection.prepareStatement(INSERT_SQL, new String[]{"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        ProductRequest request = rows.get(i).request();
+                        ps.setString(1, request.getName());
+                        ps.setString(2, request.getDescription());
+                        ps.setBigDecimal(3, request.getPrice());
+                        ps.setInt(4, request.getStockQuantity());
+                        ps.setString(5, request.getCategory());
+                        ps.setString(6, request.getImageUrl());
+                        ps.setTimestamp(7, Timestamp.valueOf(now));
+                        ps.setTimestamp(8, Timestamp.valueOf(now));
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return rows.size();
+                    }
+                }, keys);
+        return keys.getKeyList().stream()
+                .map(key -> ((Number) key.get("id")).longValue())
+                .toList();
+    }
+
+    private record PendingRow(long line, ProductRequest request) {
+    }
+
+    private class ImportRun {
+        private final List<PendingRow> pending = new ArrayList<>(properties.getBatchSize());
+        private final List<ProductImportError> errors = new ArrayList<>();
+        private long processed;
+        private long imported;
+        private long rejected;
+
+        void accept(long line, ProductRequest request) {
+            processed++;
+            pending.add(new PendingRow(line, request));
+            if (pending.size() >= properties.getBatchSize()) {
+                flush();
+            }
+        }
+
+        void reject(long line, String message) {
+            processed++;
+            rejected++;
+            if (errors.size() < properties.getMaxErrors()) {
+                errors.add(new ProductImportError(line, message));
+            }
+        }
+
+        /**
+         * Writes the buffered rows as one batch. If the batch fails, the rows are retried one by one so
+         * only the offending rows are rejected.
+         */
+        void flush() {
+            if (pending.isEmpty()) {
+                return;
+            }
+            LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+            try {
+                List<Long> ids = transactionTemplate.execute(status -> insert(pending, now));
+                indexImported(pending, ids, now);
+            } catch (DataAccessException e) {
+                log.warn("Import batch failed, retrying {} rows individually", pending.size(), e);
+                for (PendingRow row : pending) {
+                    try {
+                        List<Long> ids = transactionTemplate.execute(status -> insert(List.of(row), now));
+                        indexImported(List.of(row), ids, now);
+                    } catch (DataAccessException rowFailure) {
+                        processed--;
+                        reject(row.line(), "Insert failed: " + rowFailure.getMostSpecificCause().getMessage());
+                    }
+                }
+            }
+            pending.clear();
+            catalogCacheService.evictCatalogQueries();
+            catalogVersionService.invalidate();
+        }
+
+        private void indexImported(List<PendingRow> rows, List<Long> ids, LocalDateTime now) {
+            for (int i = 0; i < rows.size(); i++) {
+                Product product = new Product();
+                product.setId(ids.get(i));
+                ProductRequest request = rows.get(i).request();
+                product.setName(request.getName());
+                product.setDescription(request.getDescription());
+                product.setCategory(request.getCategory());
+                product.setPrice(request.getPrice());
+                product.setImageUrl(request.getImageUrl());
+                product.setStockQuantity(request.getStockQuantity());
+                product.setCreatedAt(now);
+                product.setUpdatedAt(now);
+                productSearchIndex.index(productService.mapToProductResponse(product));
+            }
+            imported += rows.size();
+        }
+
+        ProductImportResult result() {
+            return new ProductImportResult(processed, imported, rejected, List.copyOf(errors), rejected > errors.size());
+        }
+    }
+}
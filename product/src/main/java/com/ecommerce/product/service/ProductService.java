@@ -1,29 +1,57 @@
 package com.ecommerce.product.service;
 
+import com.ecommerce.product.config.ProductCatalogProperties;
+import com.ecommerce.product.dto.ProductChanges;
+import com.ecommerce.product.dto.ProductPage;
 import com.ecommerce.product.dto.ProductRequest;
 import com.ecommerce.product.dto.ProductResponse;
 import com.ecommerce.product.model.Product;
 import com.ecommerce.product.repository.ProductRepository;
+import com.ecommerce.product.search.ProductSearchIndex;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-import java.util.Optional;
-import java.util.stream.Collectors;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class ProductService {
 
     private final ProductRepository productRepository;
+    private final ProductSearchIndex productSearchIndex;
+    private final ProductCatalogProperties catalogProperties;
+    private final EntityManager entityManager;
+    private final CatalogVersionService catalogVersionService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildSearchIndex() {
+        productSearchIndex.rebuild(productRepository.findByActiveTrue().stream()
+                .map(this::mapToProductResponse)
+                .toList());
+    }
+
     public ProductResponse createProduct(ProductRequest productRequest) {
         Product product=new Product();
         updateProductFromRequest(product,productRequest);
         Product savedProduct = productRepository.save(product);
-        return mapToProductResponse(savedProduct);
+        catalogVersionService.invalidate();
+        ProductResponse response = mapToProductResponse(savedProduct);
+        productSearchIndex.index(response);
+        return response;
     }
 
-    private ProductResponse mapToProductResponse(Product savedProduct) {
+    ProductResponse mapToProductResponse(Product savedProduct) {
         ProductResponse response= new ProductResponse();
         response.setId(savedProduct.getId());
         response.setName(savedProduct.getName());
@@ -33,6 +61,7 @@ public class ProductService {
         response.setPrice(savedProduct.getPrice());
         response.setImageUrl(savedProduct.getImageUrl());
         response.setStockQuantity(savedProduct.getStockQuantity());
+        response.setUpdatedAt(savedProduct.getUpdatedAt());
         return response;
     }
 
@@ -51,25 +80,178 @@ public class ProductService {
                 .map(existingProduct-> {
                     updateProductFromRequest(existingProduct, productRequest);
                     Product savedProduct = productRepository.save(existingProduct);
-                    return mapToProductResponse(savedProduct);
+                    catalogVersionService.invalidate();
+                    ProductResponse response = mapToProductResponse(savedProduct);
+                    productSearchIndex.index(response);
+                    return response;
                 });
 
         
     }
 
-    public List<ProductResponse> getAllProducts() {
-        return  productRepository.findByActiveTrue().stream()
+    public Optional<ProductResponse> getProduct(Long id) {
+        return productRepository.findById(id)
+                .filter(product -> Boolean.TRUE.equals(product.getActive()))
+                .map(this::mapToProductResponse);
+    }
+
+    public ProductPage getProducts(String cursor, Integer size) {
+        int pageSize = resolvePageSize(size);
+        long afterId = cursor == null ? 0L : decodeCursor(cursor);
+        List<Product> products = productRepository.findByActiveTrueAndIdGreaterThanOrderByIdAsc(afterId, Limit.of(pageSize + 1));
+
+        boolean hasMore = products.size() > pageSize;
+        List<ProductResponse> items = products.stream()
+                .limit(pageSize)
                 .map(this::mapToProductResponse)
-                .collect(Collectors.toList());
+                .toList();
+        String nextCursor = hasMore ? encodeCursor(items.get(items.size() - 1).getId()) : null;
+        return new ProductPage(items, nextCursor);
+    }
+
+    /**
+     * Strong validator for a catalog page. It only changes when the catalog version changes, so a
+     * matching {@code If-None-Match} is answered without loading the page.
+     */
+    public String getPageEtag(String cursor, Integer size) {
+        long afterId = cursor == null ? 0L : decodeCursor(cursor);
+        return catalogVersionService.currentVersion() + "-" + afterId + "-" + resolvePageSize(size);
+    }
+
+    public String getProductEtag(ProductResponse product) {
+        return product.getId() + "-" + CatalogVersionService.versionOf(product.getUpdatedAt());
+    }
+
+    /**
+     * Returns products, including soft-deleted ones, changed after the {@code since} cursor, oldest first.
+     * Rows younger than the settle window are held back so a slow transaction committing an older
+     * {@code updated_at} cannot land behind a cursor a client already holds.
+     */
+    public ProductChanges getChanges(String since, Integer size) {
+        int pageSize = resolvePageSize(size);
+        ChangeCursor cursor = since == null ? ChangeCursor.START : decodeChangeCursor(since);
+        LocalDateTime latest = catalogVersionService.latestUpdate();
+        if (latest.isBefore(cursor.updatedAt())
+                || (latest.equals(cursor.updatedAt()) && cursor.afterId() == Long.MAX_VALUE)) {
+            return new ProductChanges(List.of(), encodeChangeCursor(cursor), false);
+        }
+
+        LocalDateTime until = LocalDateTime.now().minus(catalogProperties.getChangesSettleWindow())
+                .truncatedTo(ChronoUnit.MICROS);
+        List<Product> products = productRepository.findChangedSince(cursor.updatedAt(), cursor.afterId(), until,
+                Limit.of(pageSize + 1));
+
+        boolean hasMore = products.size() > pageSize;
+        List<ProductResponse> items = products.stream()
+                .limit(pageSize)
+                .map(this::mapToProductResponse)
+                .toList();
+        ChangeCursor next;
+        if (hasMore) {
+            ProductResponse last = items.get(items.size() - 1);
+            next = new ChangeCursor(last.getUpdatedAt().truncatedTo(ChronoUnit.MICROS), last.getId());
+        } else if (until.isAfter(cursor.updatedAt())) {
+            next = new ChangeCursor(until, Long.MAX_VALUE);
+        } else {
+            next = cursor;
+        }
+        return new ProductChanges(items, encodeChangeCursor(next), hasMore);
+    }
+
+    /**
+     * Looks up products in one query, in request order. Like {@link #getProduct(Long)}, unknown and
+     * inactive ids are left out of the result.
+     */
+    public List<ProductResponse> getProductsByIds(Collection<Long> ids) {
+        Set<Long> uniqueIds = new LinkedHashSet<>(ids);
+        uniqueIds.remove(null);
+        if (uniqueIds.isEmpty()) {
+            return List.of();
+        }
+        if (uniqueIds.size() > catalogProperties.getMaxBatchSize()) {
+            throw new IllegalArgumentException("At most " + catalogProperties.getMaxBatchSize()
+                    + " product ids can be fetched per request");
+        }
+
+        Map<Long, Product> productsById = new HashMap<>();
+        productRepository.findByIdIn(uniqueIds).stream()
+                .filter(product -> Boolean.TRUE.equals(product.getActive()))
+                .forEach(product -> productsById.put(product.getId(), product));
+        return uniqueIds.stream()
+                .map(productsById::get)
+                .filter(Objects::nonNull)
+                .map(this::mapToProductResponse)
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public void exportActiveProducts(Consumer<ProductResponse> sink) {
+        try (Stream<Product> products = productRepository.streamActiveProducts()) {
+            products.forEach(product -> {
+                sink.accept(mapToProductResponse(product));
+                entityManager.detach(product);
+            });
+        }
+    }
+
+    private int resolvePageSize(Integer size) {
+        if (size == null || size <= 0) {
+            return catalogProperties.getPageSize();
+        }
+        return Math.min(size, catalogProperties.getMaxPageSize());
+    }
+
+    private String encodeCursor(Long lastId) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(("id:" + lastId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private long decodeCursor(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (decoded.startsWith("id:")) {
+                return Long.parseLong(decoded.substring(3));
+            }
+        } catch (IllegalArgumentException ignored) {
+            // malformed base64 or id, reported below
+        }
+        throw new IllegalArgumentException("Invalid cursor: " + cursor);
+    }
+
+    private String encodeChangeCursor(ChangeCursor cursor) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(("ts:" + cursor.updatedAt() + ",id:" + cursor.afterId()).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private ChangeCursor decodeChangeCursor(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = decoded.indexOf(",id:");
+            if (decoded.startsWith("ts:") && separator > 0) {
+                return new ChangeCursor(LocalDateTime.parse(decoded.substring(3, separator)),
+                        Long.parseLong(decoded.substring(separator + 4)));
+            }
+        } catch (IllegalArgumentException | DateTimeParseException ignored) {
+            // malformed base64, timestamp or id, reported below
+        }
+        throw new IllegalArgumentException("Invalid cursor: " + cursor);
     }
 
     public boolean deleteProduct(Long id) {
-        return productRepository.findById(id).map(product -> { product.setActive(false); productRepository.save(product); return true;}).orElse(false);
+        return productRepository.findById(id).map(product -> {
+            product.setActive(false);
+            productRepository.save(product);
+            catalogVersionService.invalidate();
+            productSearchIndex.remove(id);
+            return true;
+        }).orElse(false);
     }
 
     public List<ProductResponse> searchProducts(String keyword) {
-        return productRepository.searchProducts(keyword).stream()
-                .map(this::mapToProductResponse)
-                .collect(Collectors.toList());
+        return productSearchIndex.search(keyword);
+    }
+
+    private record ChangeCursor(LocalDateTime updatedAt, long afterId) {
+        static final ChangeCursor START = new ChangeCursor(LocalDateTime.of(1970, 1, 1, 0, 0), 0L);
     }
 }
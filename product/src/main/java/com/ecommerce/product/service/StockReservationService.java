@@ -0,0 +1,205 @@
+package com.ecommerce.product.service;
+
+import com.ecommerce.product.config.ReservationProperties;
+import com.ecommerce.product.dto.StockReservationItem;
+import com.ecommerce.product.dto.StockReservationRequest;
+import com.ecommerce.product.dto.StockReservationResponse;
+import com.ecommerce.product.model.ReservationStatus;
+import com.ecommerce.product.model.StockReservation;
+import com.ecommerce.product.repository.ProductRepository;
+import com.ecommerce.product.repository.StockReservationRepository;
+import com.ecommerce.product.search.ProductSearchIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Reserves stock at checkout so two orders can never sell the same unit.
+ *
+ * <p>Stock is taken with a conditional {@code UPDATE ... WHERE stock_quantity >= ?}, so the database
+ * is the source of truth. Writers for the same product are first serialized on an in-memory lock
+ * stripe, which keeps hot SKUs from piling up as a convoy of transactions waiting on one row lock.
+ */
+@Slf4j
+@Service
+public class StockReservationService {
+
+    private final ProductRepository productRepository;
+    private final StockReservationRepository reservationRepository;
+    private final ProductSearchIndex productSearchIndex;
+    private final ReservationProperties properties;
+    private final CatalogVersionService catalogVersionService;
+    private final TransactionTemplate transactionTemplate;
+    private final ReentrantLock[] stripes;
+
+    public StockReservationService(ProductRepository productRepository,
+                                   StockReservationRepository reservationRepository,
+                                   ProductSearchIndex productSearchIndex,
+                                   ReservationProperties properties,
+                                   CatalogVersionService catalogVersionService,
+                                   TransactionTemplate transactionTemplate) {
+        this.productRepository = productRepository;
+        this.reservationRepository = reservationRepository;
+        this.productSearchIndex = productSearchIndex;
+        this.properties = properties;
+        this.catalogVersionService = catalogVersionService;
+        this.transactionTemplate = transactionTemplate;
+        this.stripes = new ReentrantLock[Integer.highestOneBit(Math.max(1, properties.getLockStripes() * 2 - 1))];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    public Optional<StockReservationResponse> reserve(StockReservationRequest request) {
+        Map<Long, Integer> quantities = mergeItems(request.getItems());
+        LocalDateTime expiresAt = LocalDateTime.now().plus(resolveTtl(request.getTtlSeconds()));
+        String reservationId = UUID.randomUUID().toString();
+
+        Boolean reserved = withStripes(quantities.keySet(), () -> transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            for (Map.Entry<Long, Integer> item : quantities.entrySet()) {
+                if (productRepository.decrementStock(item.getKey(), item.getValue(), now) == 0) {
+                    status.setRollbackOnly();
+                    return false;
+                }
+            }
+            reservationRepository.saveAll(quantities.entrySet().stream()
+                    .map(item -> createReservation(reservationId, item.getKey(), item.getValue(), expiresAt))
+                    .toList());
+            return true;
+        }));
+        if (!Boolean.TRUE.equals(reserved)) {
+            return Optional.empty();
+        }
+
+        catalogVersionService.invalidate();
+        quantities.forEach((productId, quantity) -> productSearchIndex.adjustStock(productId, -quantity));
+        List<StockReservationItem> items = quantities.entrySet().stream()
+                .map(item -> new StockReservationItem(item.getKey(), item.getValue()))
+                .toList();
+        return Optional.of(new StockReservationResponse(reservationId, ReservationStatus.RESERVED, expiresAt, items));
+    }
+
+    public boolean commit(String reservationId) {
+        Integer committed = transactionTemplate.execute(status ->
+                reservationRepository.commit(reservationId, LocalDateTime.now()));
+        return committed != null && committed > 0;
+    }
+
+    public boolean release(String reservationId) {
+        return returnStock(reservationId, ReservationStatus.RELEASED);
+    }
+
+    @Scheduled(fixedDelayString = "${product.reservation.expiry-interval:PT30S}")
+    public void expireReservations() {
+        List<StockReservation> expired = reservationRepository.findByStatusAndExpiresAtBefore(
+                ReservationStatus.RESERVED, LocalDateTime.now(), Limit.of(properties.getExpiryBatchSize()));
+        Set<String> reservationIds = expired.stream()
+                .map(StockReservation::getReservationId)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        long released = reservationIds.stream()
+                .filter(reservationId -> returnStock(reservationId, ReservationStatus.EXPIRED))
+                .count();
+        if (released > 0) {
+            log.info("Expired {} stock reservations", released);
+        }
+    }
+
+    private boolean returnStock(String reservationId, ReservationStatus target) {
+        List<StockReservation> reservations =
+                reservationRepository.findByReservationIdAndStatus(reservationId, ReservationStatus.RESERVED);
+        if (reservations.isEmpty()) {
+            return false;
+        }
+        Set<Long> productIds = reservations.stream()
+                .map(StockReservation::getProductId)
+                .collect(Collectors.toSet());
+
+        Boolean returned = withStripes(productIds, () -> transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            if (reservationRepository.transition(reservationId, ReservationStatus.RESERVED, target, now) == 0) {
+                return false;
+            }
+            reservations.forEach(reservation ->
+                    productRepository.incrementStock(reservation.getProductId(), reservation.getQuantity(), now));
+            return true;
+        }));
+        if (!Boolean.TRUE.equals(returned)) {
+            return false;
+        }
+        catalogVersionService.invalidate();
+        reservations.forEach(reservation ->
+                productSearchIndex.adjustStock(reservation.getProductId(), reservation.getQuantity()));
+        return true;
+    }
+
+    /**
+     * Runs the action while holding the stripe of every product. Stripes are taken in index order
+     * so multi-product reservations cannot deadlock each other.
+     */
+    private <T> T withStripes(Collection<Long> productIds, Supplier<T> action) {
+        int[] indexes = productIds.stream()
+                .mapToInt(this::stripeIndex)
+                .distinct()
+                .sorted()
+                .toArray();
+        int locked = 0;
+        try {
+            for (int index : indexes) {
+                stripes[index].lock();
+                locked++;
+            }
+            return action.get();
+        } finally {
+            for (int i = locked - 1; i >= 0; i--) {
+                stripes[indexes[i]].unlock();
+            }
+        }
+    }
+
+    private int stripeIndex(Long productId) {
+        int hash = productId.hashCode();
+        return (hash ^ (hash >>> 16)) & (stripes.length - 1);
+    }
+
+    private Map<Long, Integer> mergeItems(List<StockReservationItem> items) {
+        if (items == null || items.isEmpty()) {
+            throw new IllegalArgumentException("A reservation needs at least one item");
+        }
+        Map<Long, Integer> quantities = new TreeMap<>();
+        for (StockReservationItem item : items) {
+            if (item.getProductId() == null || item.getQuantity() == null || item.getQuantity() <= 0) {
+                throw new IllegalArgumentException("Each item needs a product id and a positive quantity");
+            }
+            quantities.merge(item.getProductId(), item.getQuantity(), Integer::sum);
+        }
+        return quantities;
+    }
+
+    private Duration resolveTtl(Long ttlSeconds) {
+        if (ttlSeconds == null || ttlSeconds <= 0) {
+            return properties.getDefaultTtl();
+        }
+        Duration requested = Duration.ofSeconds(ttlSeconds);
+        return requested.compareTo(properties.getMaxTtl()) > 0 ? properties.getMaxTtl() : requested;
+    }
+
+    private StockReservation createReservation(String reservationId, Long productId, Integer quantity,
+                                               LocalDateTime expiresAt) {
+        StockReservation reservation = new StockReservation();
+        reservation.setReservationId(reservationId);
+        reservation.setProductId(productId);
+        reservation.setQuantity(quantity);
+        reservation.setExpiresAt(expiresAt);
+        return reservation;
+    }
+}
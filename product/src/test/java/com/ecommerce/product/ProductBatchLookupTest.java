@@ -0,0 +1,102 @@
+package com.ecommerce.product;
+
+import com.ecommerce.product.dto.ProductResponse;
+import com.ecommerce.product.model.Product;
+import com.ecommerce.product.repository.ProductRepository;
+import com.ecommerce.product.service.ProductService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Counts the statements a multi-get prepares against N single findById lookups for the same ids,
+ * with the second-level cache cleared so every lookup reaches the database.
+ */
+@SpringBootTest(properties = {
+        "spring.cloud.config.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.query.in_clause_parameter_padding=true"
+})
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("Product Batch Lookup Tests")
+class ProductBatchLookupTest {
+
+    private static final int BATCH_SIZE = 100;
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:14");
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private List<Long> productIds;
+
+    @BeforeEach
+    void setUp() {
+        productRepository.deleteAll();
+        productIds = productRepository.saveAll(IntStream.range(0, BATCH_SIZE).mapToObj(this::createProduct).toList())
+                .stream()
+                .map(Product::getId)
+                .toList();
+        entityManagerFactory.getCache().evictAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("Should fetch the whole batch in one query")
+    void getProductsByIds_ShouldIssueSingleQuery() {
+        // Act
+        List<ProductResponse> result = productService.getProductsByIds(productIds.reversed());
+
+        // Assert
+        assertThat(result).extracting(ProductResponse::getId).containsExactlyElementsOf(productIds.reversed());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should need one query per id with single lookups")
+    void findById_ShouldIssueQueryPerId() {
+        // Act
+        productIds.forEach(id -> assertThat(productRepository.findById(id)).isPresent());
+
+        // Assert
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(BATCH_SIZE);
+    }
+
+    private Product createProduct(int index) {
+        Product product = new Product();
+        product.setName("Batch Product " + index);
+        product.setDescription("Batch description " + index);
+        product.setPrice(BigDecimal.valueOf(10 + index % 90));
+        product.setStockQuantity(100);
+        product.setCategory("Batch");
+        product.setActive(true);
+        return product;
+    }
+}
@@ -0,0 +1,149 @@
+package com.ecommerce.product;
+
+import com.ecommerce.product.dto.CacheRegionStats;
+import com.ecommerce.product.dto.ProductRequest;
+import com.ecommerce.product.dto.ProductResponse;
+import com.ecommerce.product.model.Product;
+import com.ecommerce.product.service.CatalogCacheService;
+import com.ecommerce.product.service.ProductService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.cloud.config.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=true",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=true",
+        "spring.jpa.properties.hibernate.cache.region.factory_class=jcache",
+        "spring.jpa.properties.hibernate.javax.cache.provider=com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider",
+        "spring.jpa.properties.hibernate.javax.cache.missing_cache_strategy=create",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("Product Second-Level Cache Tests")
+class ProductCacheTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:14");
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private CatalogCacheService catalogCacheService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Long productId;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        productId = productService.createProduct(request("Cached Keyboard", 50)).getId();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("Should serve repeated reads by id from the entity region")
+    void getProduct_WhenRepeated_ShouldHitSecondLevelCache() {
+        // Act
+        productService.getProduct(productId);
+        long statementsAfterFirstRead = statistics.getPrepareStatementCount();
+        ProductResponse second = productService.getProduct(productId).orElseThrow();
+
+        // Assert
+        assertThat(second.getName()).isEqualTo("Cached Keyboard");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(statementsAfterFirstRead);
+        assertThat(statistics.getDomainDataRegionStatistics(Product.CACHE_REGION).getHitCount()).isPositive();
+    }
+
+    @Test
+    @DisplayName("Should serve a repeated catalog page from the query cache")
+    void getProducts_WhenRepeated_ShouldHitQueryCache() {
+        // Act
+        productService.getProducts(null, 10);
+        long statementsAfterFirstPage = statistics.getPrepareStatementCount();
+        productService.getProducts(null, 10);
+
+        // Assert
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(statementsAfterFirstPage);
+        assertThat(statistics.getQueryCacheHitCount()).isPositive();
+    }
+
+    @Test
+    @DisplayName("Should see updates made through ProductService")
+    void updateProduct_ShouldRefreshCachedEntity() {
+        // Arrange
+        productService.getProduct(productId);
+
+        // Act
+        productService.updateProduct(productId, request("Renamed Keyboard", 7));
+
+        // Assert
+        ProductResponse updated = productService.getProduct(productId).orElseThrow();
+        assertThat(updated.getName()).isEqualTo("Renamed Keyboard");
+        assertThat(updated.getStockQuantity()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("Should stop serving a product once it is soft deleted")
+    void deleteProduct_ShouldHideCachedProduct() {
+        // Arrange
+        productService.getProduct(productId);
+        productService.getProducts(null, 500);
+
+        // Act
+        productService.deleteProduct(productId);
+
+        // Assert
+        assertThat(productService.getProduct(productId)).isEmpty();
+        assertThat(productService.getProducts(null, 500).getItems())
+                .extracting(ProductResponse::getId)
+                .doesNotContain(productId);
+    }
+
+    @Test
+    @DisplayName("Should report statistics for the product regions")
+    void getRegionStats_ShouldListProductRegions() {
+        // Arrange
+        productService.getProduct(productId);
+        productService.getProducts(null, 10);
+
+        // Act
+        List<CacheRegionStats> regions = catalogCacheService.getRegionStats();
+
+        // Assert
+        assertThat(regions)
+                .extracting(CacheRegionStats::getRegion)
+                .contains(Product.CACHE_REGION, Product.QUERY_CACHE_REGION);
+    }
+
+    private ProductRequest request(String name, int stock) {
+        ProductRequest request = new ProductRequest();
+        request.setName(name);
+        request.setDescription("Mechanical keyboard");
+        request.setCategory("Electronics");
+        request.setPrice(new BigDecimal("89.00"));
+        request.setStockQuantity(stock);
+        return request;
+    }
+}
@@ -0,0 +1,141 @@
+package com.ecommerce.product;
+
+import com.ecommerce.product.dto.ImportFormat;
+import com.ecommerce.product.dto.ProductImportError;
+import com.ecommerce.product.dto.ProductImportResult;
+import com.ecommerce.product.dto.ProductResponse;
+import com.ecommerce.product.repository.ProductRepository;
+import com.ecommerce.product.repository.StockReservationRepository;
+import com.ecommerce.product.service.ProductImportService;
+import com.ecommerce.product.service.ProductService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest(properties = {
+        "spring.cloud.config.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "product.import.batch-size=100",
+        "product.import.max-errors=5",
+        "product.import.max-line-length=512"
+})
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("Product Import Tests")
+class ProductImportTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:14");
+
+    @Autowired
+    private ProductImportService productImportService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private StockReservationRepository reservationRepository;
+
+    @BeforeEach
+    void setUp() {
+        reservationRepository.deleteAll();
+        productRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should import valid CSV rows in batches and report the rejected ones")
+    void importCsv_ShouldImportValidRowsAndReportErrors() throws Exception {
+        // Arrange
+        StringBuilder csv = new StringBuilder("name,description,price,stock_quantity,category\n");
+        for (int i = 0; i < 250; i++) {
+            csv.append("Widget ").append(i).append(",Plain widget,9.99,").append(i).append(",Tools\n");
+        }
+        csv.append(",Missing name,1.00,1,Tools\n");
+        csv.append("Bad price,,abc,1,Tools\n");
+        csv.append("\"Quoted, \"\"deluxe\"\" lamp\",\"Two\nlines\",19.50,3,Lighting\n");
+
+        // Act
+        ProductImportResult result = productImportService.importProducts(stream(csv.toString()), ImportFormat.CSV);
+
+        // Assert
+        assertThat(result.getImported()).isEqualTo(251);
+        assertThat(result.getRejected()).isEqualTo(2);
+        assertThat(result.getErrors()).extracting(ProductImportError::getLine).containsExactly(252L, 253L);
+        assertThat(productRepository.count()).isEqualTo(251);
+        assertThat(productService.searchProducts("deluxe"))
+                .extracting(ProductResponse::getDescription)
+                .containsExactly("Two\nlines");
+    }
+
+    @Test
+    @DisplayName("Should make imported products visible to cached catalog pages")
+    void importNdjson_ShouldRefreshCatalogPages() throws Exception {
+        // Arrange
+        productService.getProducts(null, 500);
+        String ndjson = """
+                {"name":"Desk","price":120.00,"stockQuantity":4,"category":"Furniture"}
+                {"name":"Chair","price":60.00
+                {"name":"Shelf","price":-1,"stockQuantity":2}
+                {"name":"Lamp","price":25.00,"stockQuantity":9,"category":"Lighting"}
+                """;
+
+        // Act
+        ProductImportResult result = productImportService.importProducts(stream(ndjson), ImportFormat.NDJSON);
+
+        // Assert
+        assertThat(result.getImported()).isEqualTo(2);
+        assertThat(result.getErrors()).extracting(ProductImportError::getLine).containsExactly(2L, 3L);
+        assertThat(productService.getProducts(null, 500).getItems())
+                .extracting(ProductResponse::getName)
+                .containsExactly("Desk", "Lamp");
+    }
+
+    @Test
+    @DisplayName("Should cap the reported errors and skip oversized lines")
+    void importNdjson_WithManyBadRows_ShouldTruncateErrors() throws Exception {
+        // Arrange
+        StringBuilder ndjson = new StringBuilder("{\"name\":\"" + "x".repeat(1000) + "\"}\n");
+        for (int i = 0; i < 10; i++) {
+            ndjson.append("not json\n");
+        }
+
+        // Act
+        ProductImportResult result = productImportService.importProducts(stream(ndjson.toString()), ImportFormat.NDJSON);
+
+        // Assert
+        assertThat(result.getRejected()).isEqualTo(11);
+        assertThat(result.getErrors()).hasSize(5);
+        assertThat(result.getErrors().get(0).getMessage()).contains("exceeds 512");
+        assertThat(result.isErrorsTruncated()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should reject a CSV header without the required columns")
+    void importCsv_WithoutRequiredColumns_ShouldThrow() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () ->
+                productImportService.importProducts(stream("name,category\nDesk,Furniture\n"), ImportFormat.CSV));
+        assertThat(productRepository.count()).isZero();
+    }
+
+    private InputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
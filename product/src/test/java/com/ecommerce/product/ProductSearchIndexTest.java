@@ -0,0 +1,109 @@
+package com.ecommerce.product;
+
+import com.ecommerce.product.dto.ProductResponse;
+import com.ecommerce.product.search.ProductSearchIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ProductSearchIndex Unit Tests")
+class ProductSearchIndexTest {
+
+    private ProductSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ProductSearchIndex(100);
+        index.rebuild(List.of(
+                createProduct(1L, "Gaming Laptop", "Electronics", "Fast laptop for games", 5),
+                createProduct(2L, "Laptop Sleeve", "Accessories", "Neoprene sleeve", 10),
+                createProduct(3L, "Desk Lamp", "Home", "Lamp that fits next to a laptop", 3),
+                createProduct(4L, "Laptop Stand", "Accessories", "Aluminium stand", 0)
+        ));
+    }
+
+    @Test
+    @DisplayName("Should rank name matches above description matches")
+    void shouldRankNameMatchesAboveDescriptionMatches() {
+        List<ProductResponse> result = index.search("laptop");
+
+        assertThat(result).extracting(ProductResponse::getId).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    @DisplayName("Should require every keyword token to match")
+    void shouldRequireEveryTokenToMatch() {
+        assertThat(index.search("laptop sleeve")).extracting(ProductResponse::getId).containsExactly(2L);
+        assertThat(index.search("laptop unicorn")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should match prefixes case-insensitively")
+    void shouldMatchPrefixesCaseInsensitively() {
+        assertThat(index.search("ELECTRO")).extracting(ProductResponse::getId).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("Should exclude out of stock products")
+    void shouldExcludeOutOfStockProducts() {
+        assertThat(index.search("stand")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should replace rather than modify products already handed out on stock adjustment")
+    void shouldNotModifyReturnedProductsOnStockAdjustment() {
+        ProductResponse indexed = createProduct(5L, "Travel Mug", "Home", "Steel mug", 10);
+        index.index(indexed);
+        ProductResponse before = index.search("mug").get(0);
+
+        index.adjustStock(5L, -4);
+
+        assertThat(before.getStockQuantity()).isEqualTo(10);
+        assertThat(indexed.getStockQuantity()).isEqualTo(10);
+        assertThat(index.search("mug")).extracting(ProductResponse::getStockQuantity).containsExactly(6);
+    }
+
+    @Test
+    @DisplayName("Should apply incremental updates and removals")
+    void shouldApplyIncrementalUpdatesAndRemovals() {
+        index.index(createProduct(2L, "Tablet Sleeve", "Accessories", "Neoprene sleeve", 10));
+        index.remove(1L);
+
+        assertThat(index.search("laptop")).extracting(ProductResponse::getId).containsExactly(3L);
+        assertThat(index.search("tablet")).extracting(ProductResponse::getId).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("Should drop products that become inactive")
+    void shouldDropInactiveProducts() {
+        ProductResponse inactive = createProduct(1L, "Gaming Laptop", "Electronics", "Fast laptop for games", 5);
+        inactive.setActive(false);
+
+        index.index(inactive);
+
+        assertThat(index.size()).isEqualTo(3);
+        assertThat(index.search("gaming")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should return empty list for blank or null keyword")
+    void shouldReturnEmptyListForBlankKeyword() {
+        assertThat(index.search("")).isEmpty();
+        assertThat(index.search(null)).isEmpty();
+    }
+
+    private ProductResponse createProduct(Long id, String name, String category, String description, int stock) {
+        ProductResponse product = new ProductResponse();
+        product.setId(id);
+        product.setName(name);
+        product.setCategory(category);
+        product.setDescription(description);
+        product.setStockQuantity(stock);
+        product.setActive(true);
+        return product;
+    }
+}
@@ -1,10 +1,16 @@
 package com.ecommerce.product;
 
+import com.ecommerce.product.config.ProductCatalogProperties;
+import com.ecommerce.product.dto.ProductChanges;
+import com.ecommerce.product.dto.ProductPage;
 import com.ecommerce.product.dto.ProductRequest;
 import com.ecommerce.product.dto.ProductResponse;
 import com.ecommerce.product.model.Product;
 import com.ecommerce.product.repository.ProductRepository;
+import com.ecommerce.product.search.ProductSearchIndex;
+import com.ecommerce.product.service.CatalogVersionService;
 import com.ecommerce.product.service.ProductService;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -12,29 +18,46 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("ProductService Unit Tests")
-class ProductTestService {
+class ProductServiceTest {
 
     @Mock
     private ProductRepository productRepository;
 
+    @Mock
+    private ProductSearchIndex productSearchIndex;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private CatalogVersionService catalogVersionService;
+
+    @Spy
+    private ProductCatalogProperties catalogProperties = new ProductCatalogProperties();
+
     @InjectMocks
     private ProductService productService;
 
@@ -183,59 +206,270 @@ class ProductTestService {
     }
 
     @Nested
-    @DisplayName("Get All Products Tests")
-    class GetAllProductsTests {
+    @DisplayName("Get Products Page Tests")
+    class GetProductsPageTests {
 
         @Test
-        @DisplayName("Should return all active products")
-        void shouldReturnAllActiveProducts() {
+        @DisplayName("Should return first page of active products")
+        void shouldReturnFirstPageOfActiveProducts() {
             // Arrange
             List<Product> activeProducts = Arrays.asList(
                     createSavedProduct(),
                     createSecondProduct()
             );
-            when(productRepository.findByActiveTrue()).thenReturn(activeProducts);
+            when(productRepository.findByActiveTrueAndIdGreaterThanOrderByIdAsc(0L, Limit.of(51)))
+                    .thenReturn(activeProducts);
 
             // Act
-            List<ProductResponse> result = productService.getAllProducts();
+            ProductPage result = productService.getProducts(null, null);
 
             // Assert
-            assertThat(result).hasSize(2);
-            assertThat(result.get(0).getName()).isEqualTo("Test Product");
-            assertThat(result.get(1).getName()).isEqualTo("Second Product");
-            assertThat(result).allMatch(ProductResponse::getActive);
+            assertThat(result.getItems()).hasSize(2);
+            assertThat(result.getItems().get(0).getName()).isEqualTo("Test Product");
+            assertThat(result.getItems().get(1).getName()).isEqualTo("Second Product");
+            assertThat(result.getItems()).allMatch(ProductResponse::getActive);
+            assertThat(result.getNextCursor()).isNull();
+        }
+
+        @Test
+        @DisplayName("Should return empty page when no active products")
+        void shouldReturnEmptyPageWhenNoActiveProducts() {
+            // Arrange
+            when(productRepository.findByActiveTrueAndIdGreaterThanOrderByIdAsc(0L, Limit.of(51)))
+                    .thenReturn(Collections.emptyList());
+
+            // Act
+            ProductPage result = productService.getProducts(null, null);
 
-            verify(productRepository, times(1)).findByActiveTrue();
+            // Assert
+            assertThat(result.getItems()).isEmpty();
+            assertThat(result.getNextCursor()).isNull();
+        }
+
+        @Test
+        @DisplayName("Should continue from the cursor of the previous page")
+        void shouldContinueFromCursorOfPreviousPage() {
+            // Arrange
+            when(productRepository.findByActiveTrueAndIdGreaterThanOrderByIdAsc(0L, Limit.of(2)))
+                    .thenReturn(List.of(createSavedProduct(), createSecondProduct()));
+            when(productRepository.findByActiveTrueAndIdGreaterThanOrderByIdAsc(1L, Limit.of(2)))
+                    .thenReturn(List.of(createSecondProduct()));
+
+            // Act
+            ProductPage first = productService.getProducts(null, 1);
+            ProductPage second = productService.getProducts(first.getNextCursor(), 1);
+
+            // Assert
+            assertThat(first.getItems()).extracting(ProductResponse::getId).containsExactly(1L);
+            assertThat(first.getNextCursor()).isNotBlank();
+            assertThat(second.getItems()).extracting(ProductResponse::getId).containsExactly(2L);
+            assertThat(second.getNextCursor()).isNull();
         }
 
         @Test
-        @DisplayName("Should return empty list when no active products")
-        void shouldReturnEmptyListWhenNoActiveProducts() {
+        @DisplayName("Should cap requested page size")
+        void shouldCapRequestedPageSize() {
             // Arrange
-            when(productRepository.findByActiveTrue()).thenReturn(Collections.emptyList());
+            when(productRepository.findByActiveTrueAndIdGreaterThanOrderByIdAsc(0L, Limit.of(501)))
+                    .thenReturn(Collections.emptyList());
 
             // Act
-            List<ProductResponse> result = productService.getAllProducts();
+            productService.getProducts(null, 10_000);
+
+            // Assert
+            verify(productRepository, times(1)).findByActiveTrueAndIdGreaterThanOrderByIdAsc(0L, Limit.of(501));
+        }
+
+        @Test
+        @DisplayName("Should reject malformed cursor")
+        void shouldRejectMalformedCursor() {
+            // Act & Assert
+            assertThrows(IllegalArgumentException.class, () ->
+                    productService.getProducts("not-a-cursor", null)
+            );
+
+            verify(productRepository, never()).findByActiveTrueAndIdGreaterThanOrderByIdAsc(anyLong(), any(Limit.class));
+        }
+
+        @Test
+        @DisplayName("Should stream active products and detach each entity")
+        void shouldStreamActiveProductsAndDetachEachEntity() {
+            // Arrange
+            when(productRepository.streamActiveProducts())
+                    .thenReturn(Stream.of(createSavedProduct(), createSecondProduct()));
+            List<ProductResponse> exported = new ArrayList<>();
+
+            // Act
+            productService.exportActiveProducts(exported::add);
+
+            // Assert
+            assertThat(exported).extracting(ProductResponse::getId).containsExactly(1L, 2L);
+            verify(entityManager, times(2)).detach(any(Product.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("Get Products By Ids Tests")
+    class GetProductsByIdsTests {
+
+        @Test
+        @DisplayName("Should fetch deduplicated ids in one query and preserve request order")
+        void shouldFetchDeduplicatedIdsInRequestOrder() {
+            // Arrange
+            when(productRepository.findByIdIn(anyCollection()))
+                    .thenReturn(List.of(createSavedProduct(), createSecondProduct()));
+
+            // Act
+            List<ProductResponse> result = productService.getProductsByIds(Arrays.asList(2L, 1L, 2L, null, 99L));
+
+            // Assert
+            assertThat(result).extracting(ProductResponse::getId).containsExactly(2L, 1L);
+            verify(productRepository, times(1)).findByIdIn(argThat(ids ->
+                    List.copyOf(ids).equals(List.of(2L, 1L, 99L))));
+        }
+
+        @Test
+        @DisplayName("Should leave inactive products out of the batch")
+        void shouldSkipInactiveProducts() {
+            // Arrange
+            Product inactive = createSecondProduct();
+            inactive.setActive(false);
+            when(productRepository.findByIdIn(anyCollection())).thenReturn(List.of(createSavedProduct(), inactive));
+
+            // Act
+            List<ProductResponse> result = productService.getProductsByIds(List.of(1L, 2L));
+
+            // Assert
+            assertThat(result).extracting(ProductResponse::getId).containsExactly(1L);
+        }
+
+        @Test
+        @DisplayName("Should not query for empty id list")
+        void shouldNotQueryForEmptyIdList() {
+            // Act
+            List<ProductResponse> result = productService.getProductsByIds(List.of());
+
+            // Assert
+            assertThat(result).isEmpty();
+            verifyNoInteractions(productRepository);
+        }
+
+        @Test
+        @DisplayName("Should reject batches above the configured cap")
+        void shouldRejectOversizedBatches() {
+            // Arrange
+            catalogProperties.setMaxBatchSize(2);
+
+            // Act & Assert
+            assertThrows(IllegalArgumentException.class, () ->
+                    productService.getProductsByIds(List.of(1L, 2L, 3L))
+            );
+            verifyNoInteractions(productRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("Get Product Tests")
+    class GetProductTests {
+
+        @Test
+        @DisplayName("Should return active product")
+        void shouldReturnActiveProduct() {
+            // Arrange
+            Product existingProduct = createSavedProduct();
+            when(productRepository.findById(1L)).thenReturn(Optional.of(existingProduct));
+
+            // Act
+            Optional<ProductResponse> result = productService.getProduct(1L);
+
+            // Assert
+            assertThat(result).isPresent();
+            assertThat(result.get().getName()).isEqualTo(existingProduct.getName());
+        }
+
+        @Test
+        @DisplayName("Should hide soft deleted product")
+        void shouldHideSoftDeletedProduct() {
+            // Arrange
+            Product existingProduct = createSavedProduct();
+            existingProduct.setActive(false);
+            when(productRepository.findById(1L)).thenReturn(Optional.of(existingProduct));
+
+            // Act
+            Optional<ProductResponse> result = productService.getProduct(1L);
 
             // Assert
             assertThat(result).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("Catalog Change Tests")
+    class CatalogChangeTests {
+
+        @Test
+        @DisplayName("Should keep the page ETag stable until the catalog version changes")
+        void getPageEtag_ShouldFollowCatalogVersion() {
+            // Arrange
+            when(catalogVersionService.currentVersion()).thenReturn("v1", "v1", "v2");
+
+            // Act
+            String first = productService.getPageEtag(null, 10);
+            String second = productService.getPageEtag(null, 10);
+            String afterWrite = productService.getPageEtag(null, 10);
 
-            verify(productRepository, times(1)).findByActiveTrue();
+            // Assert
+            assertThat(second).isEqualTo(first);
+            assertThat(afterWrite).isNotEqualTo(first);
+            verify(productRepository, never()).findByActiveTrueAndIdGreaterThanOrderByIdAsc(anyLong(), any(Limit.class));
         }
 
         @Test
-        @DisplayName("Should not return inactive products")
-        void shouldNotReturnInactiveProducts() {
+        @DisplayName("Should return changed products and resume from the returned cursor")
+        void getChanges_ShouldPageThroughChanges() {
             // Arrange
-            Product activeProduct = createSavedProduct();
-            when(productRepository.findByActiveTrue()).thenReturn(List.of(activeProduct));
+            Product first = createSavedProduct();
+            first.setUpdatedAt(LocalDateTime.of(2026, 1, 1, 10, 0));
+            Product second = createSecondProduct();
+            second.setActive(false);
+            second.setUpdatedAt(LocalDateTime.of(2026, 1, 1, 10, 5));
+            when(catalogVersionService.latestUpdate()).thenReturn(second.getUpdatedAt());
+            when(productRepository.findChangedSince(any(LocalDateTime.class), anyLong(), any(LocalDateTime.class), any(Limit.class)))
+                    .thenReturn(List.of(first, second));
 
             // Act
-            List<ProductResponse> result = productService.getAllProducts();
+            ProductChanges page = productService.getChanges(null, 1);
+            productService.getChanges(page.getNextCursor(), 1);
 
             // Assert
-            assertThat(result).hasSize(1);
-            assertThat(result.get(0).getActive()).isTrue();
+            assertThat(page.isHasMore()).isTrue();
+            assertThat(page.getItems()).extracting(ProductResponse::getId).containsExactly(1L);
+            verify(productRepository).findChangedSince(eq(first.getUpdatedAt()), eq(1L), any(LocalDateTime.class), any(Limit.class));
+        }
+
+        @Test
+        @DisplayName("Should answer from the catalog version when the client is up to date")
+        void getChanges_WhenUpToDate_ShouldSkipQuery() {
+            // Arrange
+            when(catalogVersionService.latestUpdate()).thenReturn(LocalDateTime.now().minusHours(1));
+            when(productRepository.findChangedSince(any(LocalDateTime.class), anyLong(), any(LocalDateTime.class), any(Limit.class)))
+                    .thenReturn(List.of());
+            ProductChanges drained = productService.getChanges(null, 10);
+
+            // Act
+            ProductChanges result = productService.getChanges(drained.getNextCursor(), 10);
+
+            // Assert
+            assertThat(result.getItems()).isEmpty();
+            assertThat(result.getNextCursor()).isEqualTo(drained.getNextCursor());
+            verify(productRepository, times(1)).findChangedSince(any(LocalDateTime.class), anyLong(), any(LocalDateTime.class), any(Limit.class));
+        }
+
+        @Test
+        @DisplayName("Should reject a malformed since cursor")
+        void getChanges_WithInvalidCursor_ShouldThrow() {
+            // Act & Assert
+            assertThrows(IllegalArgumentException.class, () -> productService.getChanges("not-a-cursor", 10));
         }
     }
 
@@ -302,11 +536,11 @@ class ProductTestService {
         void shouldReturnProductsMatchingSearchKeyword() {
             // Arrange
             String keyword = "laptop";
-            List<Product> searchResults = Arrays.asList(
-                    createSavedProduct(),
-                    createSecondProduct()
-            );
-            when(productRepository.searchProducts(keyword)).thenReturn(searchResults);
+            ProductResponse first = new ProductResponse();
+            first.setName("Test Product");
+            ProductResponse second = new ProductResponse();
+            second.setName("Second Product");
+            when(productSearchIndex.search(keyword)).thenReturn(List.of(first, second));
 
             // Act
             List<ProductResponse> result = productService.searchProducts(keyword);
@@ -316,7 +550,8 @@ class ProductTestService {
             assertThat(result.get(0).getName()).isEqualTo("Test Product");
             assertThat(result.get(1).getName()).isEqualTo("Second Product");
 
-            verify(productRepository, times(1)).searchProducts(keyword);
+            verify(productSearchIndex, times(1)).search(keyword);
+            verifyNoInteractions(productRepository);
         }
 
         @Test
@@ -324,7 +559,7 @@ class ProductTestService {
         void shouldReturnEmptyListWhenNoProductsMatch() {
             // Arrange
             String keyword = "nonexistent";
-            when(productRepository.searchProducts(keyword)).thenReturn(Collections.emptyList());
+            when(productSearchIndex.search(keyword)).thenReturn(Collections.emptyList());
 
             // Act
             List<ProductResponse> result = productService.searchProducts(keyword);
@@ -332,38 +567,38 @@ class ProductTestService {
             // Assert
             assertThat(result).isEmpty();
 
-            verify(productRepository, times(1)).searchProducts(keyword);
+            verify(productSearchIndex, times(1)).search(keyword);
         }
 
         @Test
-        @DisplayName("Should handle empty search keyword")
-        void shouldHandleEmptySearchKeyword() {
+        @DisplayName("Should rebuild search index from active products")
+        void shouldRebuildSearchIndexFromActiveProducts() {
             // Arrange
-            String emptyKeyword = "";
-            when(productRepository.searchProducts(emptyKeyword)).thenReturn(Collections.emptyList());
+            when(productRepository.findByActiveTrue()).thenReturn(List.of(createSavedProduct(), createSecondProduct()));
 
             // Act
-            List<ProductResponse> result = productService.searchProducts(emptyKeyword);
+            productService.rebuildSearchIndex();
 
             // Assert
-            assertThat(result).isEmpty();
-
-            verify(productRepository, times(1)).searchProducts(emptyKeyword);
+            verify(productSearchIndex, times(1)).rebuild(argThat(products -> products.size() == 2));
         }
 
         @Test
-        @DisplayName("Should handle null search keyword")
-        void shouldHandleNullSearchKeyword() {
+        @DisplayName("Should keep search index in sync with writes")
+        void shouldKeepSearchIndexInSyncWithWrites() {
             // Arrange
-            when(productRepository.searchProducts(null)).thenReturn(Collections.emptyList());
+            Long productId = 1L;
+            when(productRepository.save(any(Product.class))).thenReturn(savedProduct);
+            when(productRepository.findById(productId)).thenReturn(Optional.of(createSavedProduct()));
 
             // Act
-            List<ProductResponse> result = productService.searchProducts(null);
+            productService.createProduct(productRequest);
+            productService.updateProduct(productId, productRequest);
+            productService.deleteProduct(productId);
 
             // Assert
-            assertThat(result).isEmpty();
-
-            verify(productRepository, times(1)).searchProducts(null);
+            verify(productSearchIndex, times(2)).index(any(ProductResponse.class));
+            verify(productSearchIndex, times(1)).remove(productId);
         }
     }
 
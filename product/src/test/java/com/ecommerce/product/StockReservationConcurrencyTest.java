@@ -0,0 +1,177 @@
+package com.ecommerce.product;
+
+import com.ecommerce.product.dto.StockReservationItem;
+import com.ecommerce.product.dto.StockReservationRequest;
+import com.ecommerce.product.dto.StockReservationResponse;
+import com.ecommerce.product.model.Product;
+import com.ecommerce.product.model.ReservationStatus;
+import com.ecommerce.product.repository.ProductRepository;
+import com.ecommerce.product.repository.StockReservationRepository;
+import com.ecommerce.product.service.StockReservationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.cloud.config.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false"
+})
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("Stock Reservation Tests")
+class StockReservationConcurrencyTest {
+
+    private static final int INITIAL_STOCK = 100;
+    private static final int THREADS = 32;
+    private static final int ATTEMPTS_PER_THREAD = 10;
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:14");
+
+    @Autowired
+    private StockReservationService reservationService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private StockReservationRepository reservationRepository;
+
+    private Long productId;
+
+    @BeforeEach
+    void setUp() {
+        reservationRepository.deleteAll();
+        productRepository.deleteAll();
+        Product product = new Product();
+        product.setName("Hot SKU");
+        product.setPrice(BigDecimal.TEN);
+        product.setStockQuantity(INITIAL_STOCK);
+        productId = productRepository.save(product).getId();
+    }
+
+    @Test
+    @DisplayName("Should never oversell a hot SKU under concurrent reservations")
+    void shouldNeverOversellUnderConcurrentReservations() throws Exception {
+        // Arrange
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger succeeded = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+
+        // Act
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < ATTEMPTS_PER_THREAD; i++) {
+                    if (reservationService.reserve(createRequest(productId, 1)).isPresent()) {
+                        succeeded.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        // Assert
+        assertThat(succeeded.get()).isEqualTo(INITIAL_STOCK);
+        assertThat(currentStock()).isZero();
+        assertThat(reservationRepository.count()).isEqualTo(INITIAL_STOCK);
+    }
+
+    @Test
+    @DisplayName("Should return stock on release and only once")
+    void shouldReturnStockOnRelease() {
+        // Arrange
+        StockReservationResponse reservation = reservationService.reserve(createRequest(productId, 30)).orElseThrow();
+
+        // Act
+        boolean released = reservationService.release(reservation.getReservationId());
+        boolean releasedAgain = reservationService.release(reservation.getReservationId());
+
+        // Assert
+        assertThat(released).isTrue();
+        assertThat(releasedAgain).isFalse();
+        assertThat(currentStock()).isEqualTo(INITIAL_STOCK);
+        assertThat(reservationService.commit(reservation.getReservationId())).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should keep stock taken once committed")
+    void shouldKeepStockOnCommit() {
+        // Arrange
+        StockReservationResponse reservation = reservationService.reserve(createRequest(productId, 30)).orElseThrow();
+
+        // Act
+        boolean committed = reservationService.commit(reservation.getReservationId());
+
+        // Assert
+        assertThat(committed).isTrue();
+        assertThat(reservationService.release(reservation.getReservationId())).isFalse();
+        assertThat(currentStock()).isEqualTo(INITIAL_STOCK - 30);
+    }
+
+    @Test
+    @DisplayName("Should reject reservations larger than available stock")
+    void shouldRejectReservationAboveStock() {
+        // Act
+        Optional<StockReservationResponse> reservation = reservationService.reserve(createRequest(productId, INITIAL_STOCK + 1));
+
+        // Assert
+        assertThat(reservation).isEmpty();
+        assertThat(currentStock()).isEqualTo(INITIAL_STOCK);
+        assertThat(reservationRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should expire reservations past their TTL")
+    void shouldExpireReservationsPastTtl() throws InterruptedException {
+        // Arrange
+        StockReservationRequest request = createRequest(productId, 10);
+        request.setTtlSeconds(1L);
+        StockReservationResponse reservation = reservationService.reserve(request).orElseThrow();
+        Thread.sleep(1_100);
+
+        // Act
+        reservationService.expireReservations();
+
+        // Assert
+        assertThat(currentStock()).isEqualTo(INITIAL_STOCK);
+        assertThat(reservationRepository.findByReservationIdAndStatus(reservation.getReservationId(), ReservationStatus.EXPIRED))
+                .hasSize(1);
+        assertThat(reservationService.commit(reservation.getReservationId())).isFalse();
+    }
+
+    private int currentStock() {
+        return productRepository.findById(productId).orElseThrow().getStockQuantity();
+    }
+
+    private StockReservationRequest createRequest(Long productId, int quantity) {
+        StockReservationRequest request = new StockReservationRequest();
+        request.setItems(List.of(new StockReservationItem(productId, quantity)));
+        return request;
+    }
+}
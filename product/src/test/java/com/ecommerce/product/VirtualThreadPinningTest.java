@@ -0,0 +1,130 @@
+package com.ecommerce.product;
+
+import com.ecommerce.product.dto.StockReservationItem;
+import com.ecommerce.product.dto.StockReservationRequest;
+import com.ecommerce.product.model.Product;
+import com.ecommerce.product.repository.ProductRepository;
+import com.ecommerce.product.repository.StockReservationRepository;
+import com.ecommerce.product.service.ProductService;
+import com.ecommerce.product.service.StockReservationService;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Drives reservations and catalog reads (lock stripes, Hibernate, HikariCP and pgjdbc) from thousands
+ * of virtual threads and fails if JFR reports any of them pinned to its carrier.
+ */
+@SpringBootTest(properties = {
+        "spring.cloud.config.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "spring.threads.virtual.enabled=true"
+})
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("Virtual Thread Pinning Tests")
+class VirtualThreadPinningTest {
+
+    private static final int TASKS = 2000;
+    private static final int PRODUCTS = 8;
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:14");
+
+    @Autowired
+    private StockReservationService reservationService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private StockReservationRepository reservationRepository;
+
+    private final List<Long> productIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        reservationRepository.deleteAll();
+        productRepository.deleteAll();
+        productIds.clear();
+        for (int i = 0; i < PRODUCTS; i++) {
+            Product product = new Product();
+            product.setName("Pinning SKU " + i);
+            product.setPrice(BigDecimal.TEN);
+            product.setStockQuantity(TASKS);
+            productIds.add(productRepository.save(product).getId());
+        }
+    }
+
+    @Test
+    @DisplayName("Should not pin virtual threads on the reservation and catalog JDBC path")
+    void reservations_OnVirtualThreads_ShouldNotPin() throws Exception {
+        // Arrange
+        Queue<String> pinned = new ConcurrentLinkedQueue<>();
+        try (RecordingStream recording = new RecordingStream()) {
+            recording.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ZERO).withStackTrace();
+            recording.onEvent("jdk.VirtualThreadPinned", event -> pinned.add(event.getStackTrace() == null
+                    ? "<no stack trace>"
+                    : event.getStackTrace().getFrames().stream()
+                            .limit(8)
+                            .map(RecordedFrame::getMethod)
+                            .map(method -> method.getType().getName() + "." + method.getName())
+                            .collect(Collectors.joining(" <- "))));
+            recording.startAsync();
+
+            // Act
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                List<Future<?>> futures = new ArrayList<>();
+                for (int i = 0; i < TASKS; i++) {
+                    Long productId = productIds.get(i % PRODUCTS);
+                    futures.add(executor.submit(() -> {
+                        reservationService.reserve(createRequest(productId))
+                                .ifPresent(reservation -> reservationService.release(reservation.getReservationId()));
+                        return productService.getProduct(productId);
+                    }));
+                }
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            }
+            recording.stop();
+        }
+
+        // Assert
+        assertThat(pinned).isEmpty();
+        assertThat(productRepository.findAll())
+                .extracting(Product::getStockQuantity)
+                .containsOnly(TASKS);
+    }
+
+    private StockReservationRequest createRequest(Long productId) {
+        StockReservationRequest request = new StockReservationRequest();
+        request.setItems(List.of(new StockReservationItem(productId, 1)));
+        return request;
+    }
+}
@@ -0,0 +1,64 @@
+package com.ecommerce.user.cache;
+
+import com.ecommerce.user.config.UserCacheProperties;
+import com.ecommerce.user.dto.CacheStatsResponse;
+import com.ecommerce.user.dto.UserResponse;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Bounded read-through cache of user profiles, evicted by size and by time since write.
+ * Lookups that find no user are not cached.
+ *
+ * <p>Entries are held as futures so the reactive stack can share an in-flight load without blocking;
+ * the blocking stack reads through the synchronous view of the same cache.
+ */
+@Component
+public class UserCache {
+
+    private final AsyncCache<String, UserResponse> asyncCache;
+    private final Cache<String, UserResponse> cache;
+
+    public UserCache(UserCacheProperties properties) {
+        this.asyncCache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxSize())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .buildAsync();
+        this.cache = asyncCache.synchronous();
+    }
+
+    /**
+     * Blocking lookup. The load runs atomically with the cache entry, so concurrent misses share one
+     * load and an {@link #invalidate} that lands mid-load discards its result instead of letting a
+     * stale profile be cached. A missing user maps to {@code null}, for which no entry is created.
+     */
+    public Optional<UserResponse> get(String id, Function<String, Optional<UserResponse>> loader) {
+        return Optional.ofNullable(cache.asMap().computeIfAbsent(id, key -> loader.apply(key).orElse(null)));
+    }
+
+    /**
+     * Non-blocking lookup. Concurrent misses for the same id share one load, and cancelling one
+     * subscriber does not cancel the load for the others.
+     */
+    public Mono<UserResponse> getAsync(String id, Function<String, Mono<UserResponse>> loader) {
+        return Mono.fromFuture(() -> asyncCache.get(id, (key, executor) -> loader.apply(key).toFuture()), true);
+    }
+
+    public void invalidate(String id) {
+        cache.invalidate(id);
+    }
+
+    public CacheStatsResponse stats() {
+        CacheStats stats = cache.stats();
+        return new CacheStatsResponse(stats.hitCount(), stats.missCount(), stats.evictionCount(),
+                cache.estimatedSize());
+    }
+}
@@ -0,0 +1,13 @@
+package com.ecommerce.user.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "user.cache")
+public class UserCacheProperties {
+    private long maxSize = 10_000;
+    private Duration ttl = Duration.ofMinutes(10);
+}
@@ -0,0 +1,12 @@
+package com.ecommerce.user.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "user.listing")
+public class UserListingProperties {
+    private int pageSize = 50;
+    private int maxPageSize = 500;
+    private int exportBatchSize = 500;
+}
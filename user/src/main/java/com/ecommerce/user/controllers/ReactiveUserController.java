@@ -0,0 +1,106 @@
+package com.ecommerce.user.controllers;
+
+import com.ecommerce.user.dto.CacheStatsResponse;
+import com.ecommerce.user.dto.UserPage;
+import com.ecommerce.user.dto.UserPatchRequest;
+import com.ecommerce.user.dto.UserPatchResponse;
+import com.ecommerce.user.dto.UserRequest;
+import com.ecommerce.user.dto.UserResponse;
+import com.ecommerce.user.services.ReactiveUserService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * WebFlux twin of {@link UserController}, active with the {@code reactive} profile. Endpoints, status
+ * codes and bodies are identical so callers cannot tell which stack served them.
+ */
+@RestController
+@Profile("reactive")
+@RequestMapping("/api/users")
+@RequiredArgsConstructor
+public class ReactiveUserController {
+
+    private final ReactiveUserService userService;
+
+    /**
+     * Same contract as {@link UserController#getUsers}: a {@link UserPage} when {@code cursor} or
+     * {@code size} is given, otherwise every user as a streamed JSON array.
+     */
+    @GetMapping
+    public Mono<ResponseEntity<?>> getUsers(@RequestParam(required = false) String cursor,
+                                            @RequestParam(required = false) Integer size){
+        if (cursor == null && size == null) {
+            return Mono.just(ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(userService.exportUsers()));
+        }
+        return userService.fetchUsers(cursor, size).map(ResponseEntity::ok);
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<UserResponse> exportUsers(){
+        return userService.exportUsers();
+    }
+
+    @GetMapping("/cache/stats")
+    public ResponseEntity<CacheStatsResponse> getCacheStats(){
+        return ResponseEntity.ok(userService.fetchCacheStats());
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<UserResponse>> getUser(@PathVariable String id){
+        return userService.fetchUser(id)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    @PostMapping
+    public Mono<ResponseEntity<String>> createUser(@RequestBody UserRequest userRequest){
+        return userService.addUser(userRequest)
+                .thenReturn(ResponseEntity.ok("User added successfully"));
+    }
+
+    @PutMapping("/{id}")
+    public Mono<ResponseEntity<String>> updateUser(@PathVariable String id,
+                                                   @RequestBody UserRequest updateUserRequest){
+        return userService.updateUser(id, updateUserRequest)
+                .map(updated -> updated
+                        ? ResponseEntity.ok("User updated successfully")
+                        : ResponseEntity.notFound().<String>build());
+    }
+
+    @PatchMapping("/{id}")
+    public Mono<ResponseEntity<UserPatchResponse>> patchUser(@PathVariable String id,
+                                                             @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                                             @RequestBody UserPatchRequest patchRequest){
+        return Mono.defer(() -> userService.patchUser(id, patchRequest, parseVersion(ifMatch)))
+                .map(response -> switch (response.getOutcome()) {
+                    case UPDATED, UNCHANGED -> ResponseEntity.ok(response);
+                    case NOT_FOUND -> ResponseEntity.notFound().<UserPatchResponse>build();
+                    case VERSION_CONFLICT -> ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(response);
+                });
+    }
+
+    private Long parseVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank()) {
+            return null;
+        }
+        return Long.valueOf(ifMatch.replace("W/", "").replace("\"", "").trim());
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<String> handleConcurrentUpdate(OptimisticLockingFailureException e){
+        return ResponseEntity.status(HttpStatus.CONFLICT).body("User was modified concurrently, please retry");
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> handleBadRequest(IllegalArgumentException e){
+        return ResponseEntity.badRequest().body(e.getMessage());
+    }
+}
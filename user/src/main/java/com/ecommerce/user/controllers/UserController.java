@@ -1,29 +1,84 @@
 package com.ecommerce.user.controllers;
 
+import com.ecommerce.user.dto.CacheStatsResponse;
+import com.ecommerce.user.dto.UserPatchRequest;
+import com.ecommerce.user.dto.UserPatchResponse;
 import com.ecommerce.user.dto.UserRequest;
 import com.ecommerce.user.dto.UserResponse;
 import com.ecommerce.user.services.UserService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.List;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 
 @RestController
+@Profile("!reactive")
 @RequestMapping("/api/users")
 @RequiredArgsConstructor
 public class UserController {
 
 
     private final UserService userService;
+    private final ObjectMapper objectMapper;
 
 
 
+    /**
+     * Returns a {@link UserPage} when {@code cursor} or {@code size} is given. Without them the
+     * response keeps its original shape, a JSON array of every user, streamed from the export cursor
+     * instead of being loaded into memory.
+     */
     @GetMapping
-    public ResponseEntity<List<UserResponse>> getAllUsers(){
-        return new ResponseEntity<>(userService.fetchAllUsers(),
-                HttpStatus.OK);
+    public ResponseEntity<?> getUsers(@RequestParam(required = false) String cursor,
+                                      @RequestParam(required = false) Integer size){
+        if (cursor == null && size == null) {
+            return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(streamAllUsers());
+        }
+        return ResponseEntity.ok(userService.fetchUsers(cursor, size));
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportUsers(){
+        StreamingResponseBody body = outputStream -> userService.exportUsers(user -> {
+            try {
+                outputStream.write(objectMapper.writeValueAsBytes(user));
+                outputStream.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    private StreamingResponseBody streamAllUsers() {
+        return outputStream -> {
+            try (JsonGenerator generator = objectMapper.createGenerator(outputStream)) {
+                generator.writeStartArray();
+                userService.exportUsers(user -> {
+                    try {
+                        generator.writePOJO(user);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                generator.writeEndArray();
+            }
+        };
+    }
+
+    @GetMapping("/cache/stats")
+    public ResponseEntity<CacheStatsResponse> getCacheStats(){
+        return ResponseEntity.ok(userService.fetchCacheStats());
     }
 
     @GetMapping("/{id}")
@@ -48,4 +103,33 @@ public class UserController {
             return ResponseEntity.ok("User updated successfully");
         return ResponseEntity.notFound().build();
     }
+
+    @PatchMapping("/{id}")
+    public ResponseEntity<UserPatchResponse> patchUser(@PathVariable String id,
+                                                       @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                                       @RequestBody UserPatchRequest patchRequest){
+        UserPatchResponse response = userService.patchUser(id, patchRequest, parseVersion(ifMatch));
+        return switch (response.getOutcome()) {
+            case UPDATED, UNCHANGED -> ResponseEntity.ok(response);
+            case NOT_FOUND -> ResponseEntity.notFound().build();
+            case VERSION_CONFLICT -> ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(response);
+        };
+    }
+
+    private Long parseVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank()) {
+            return null;
+        }
+        return Long.valueOf(ifMatch.replace("W/", "").replace("\"", "").trim());
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<String> handleConcurrentUpdate(OptimisticLockingFailureException e){
+        return ResponseEntity.status(HttpStatus.CONFLICT).body("User was modified concurrently, please retry");
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> handleBadRequest(IllegalArgumentException e){
+        return ResponseEntity.badRequest().body(e.getMessage());
+    }
 }
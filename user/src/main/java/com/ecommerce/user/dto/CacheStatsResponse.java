@@ -0,0 +1,13 @@
+package com.ecommerce.user.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class CacheStatsResponse {
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+    private long size;
+}
@@ -0,0 +1,5 @@
+package com.ecommerce.user.dto;
+
+public enum PatchOutcome {
+    UPDATED, UNCHANGED, NOT_FOUND, VERSION_CONFLICT
+}
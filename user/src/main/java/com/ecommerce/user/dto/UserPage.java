@@ -0,0 +1,13 @@
+package com.ecommerce.user.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class UserPage {
+    private List<UserResponse> items;
+    private String nextCursor;
+}
@@ -0,0 +1,13 @@
+package com.ecommerce.user.dto;
+
+import lombok.Data;
+
+@Data
+public class UserPatchRequest {
+
+    private String firstName;
+    private String lastName;
+    private String email;
+    private String phone;
+    private AddressDTO address;
+}
@@ -0,0 +1,15 @@
+package com.ecommerce.user.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class UserPatchResponse {
+    private PatchOutcome outcome;
+    private Long version;
+
+    public boolean isChanged() {
+        return outcome == PatchOutcome.UPDATED;
+    }
+}
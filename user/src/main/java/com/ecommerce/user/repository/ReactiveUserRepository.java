@@ -0,0 +1,11 @@
+package com.ecommerce.user.repository;
+
+import com.ecommerce.user.models.User;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@Profile("reactive")
+public interface ReactiveUserRepository extends ReactiveMongoRepository<User, String> {
+}
@@ -2,9 +2,11 @@ package com.ecommerce.user.repository;
 
 
 import com.ecommerce.user.models.User;
+import org.springframework.context.annotation.Profile;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 
 @Repository
+@Profile("!reactive")
 public interface UserRepository extends MongoRepository<User, String> {
 }
@@ -0,0 +1,122 @@
+package com.ecommerce.user.services;
+
+import com.ecommerce.user.cache.UserCache;
+import com.ecommerce.user.config.UserListingProperties;
+import com.ecommerce.user.dto.CacheStatsResponse;
+import com.ecommerce.user.dto.PatchOutcome;
+import com.ecommerce.user.dto.UserPage;
+import com.ecommerce.user.dto.UserPatchRequest;
+import com.ecommerce.user.dto.UserPatchResponse;
+import com.ecommerce.user.dto.UserRequest;
+import com.ecommerce.user.dto.UserResponse;
+import com.ecommerce.user.models.User;
+import com.ecommerce.user.repository.ReactiveUserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Non-blocking counterpart of {@link UserService} for the {@code reactive} profile. Every call returns
+ * as soon as the MongoDB request is written, so lookups are served from the event loop instead of
+ * holding a request thread per in-flight query.
+ */
+@Slf4j
+@Service
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveUserService {
+
+    private final ReactiveUserRepository userRepository;
+    private final UserCache userCache;
+    private final ReactiveMongoTemplate mongoTemplate;
+    private final UserListingProperties listingProperties;
+
+    public Mono<UserPage> fetchUsers(String cursor, Integer size) {
+        int pageSize = UserDocuments.resolvePageSize(size, listingProperties);
+        return Mono.defer(() -> mongoTemplate.find(UserDocuments.pageQuery(cursor, pageSize), User.class)
+                .map(UserDocuments::toUserResponse)
+                .collectList()
+                .map(users -> {
+                    boolean hasMore = users.size() > pageSize;
+                    List<UserResponse> items = hasMore ? users.subList(0, pageSize) : users;
+                    String nextCursor = hasMore ? UserDocuments.encodeCursor(items.get(items.size() - 1).getId()) : null;
+                    return new UserPage(items, nextCursor);
+                }));
+    }
+
+    public Flux<UserResponse> exportUsers() {
+        return mongoTemplate.find(UserDocuments.exportQuery(listingProperties.getExportBatchSize()), User.class)
+                .map(UserDocuments::toUserResponse);
+    }
+
+    public Mono<Void> addUser(UserRequest userRequest) {
+        User user = new User();
+        UserDocuments.updateUserFromRequest(user, userRequest);
+        return userRepository.save(user)
+                .doOnNext(savedUser -> userCache.invalidate(savedUser.getId()))
+                .then();
+    }
+
+    public Mono<UserResponse> fetchUser(String id) {
+        return userCache.getAsync(id, key -> userRepository.findById(key).map(UserDocuments::toUserResponse));
+    }
+
+    public CacheStatsResponse fetchCacheStats() {
+        return userCache.stats();
+    }
+
+    public Mono<Boolean> updateUser(String id, UserRequest updatedUserRequest) {
+        return userRepository.findById(id)
+                .flatMap(existingUser -> {
+                    UserDocuments.updateUserFromRequest(existingUser, updatedUserRequest);
+                    return userRepository.save(existingUser);
+                })
+                .doOnNext(savedUser -> userCache.invalidate(id))
+                .map(savedUser -> true)
+                .defaultIfEmpty(false);
+    }
+
+    /**
+     * Same single findAndModify as {@link UserService#patchUser}; a patch that changes nothing neither
+     * bumps the version nor invalidates the cache.
+     */
+    public Mono<UserPatchResponse> patchUser(String id, UserPatchRequest patch, Long expectedVersion) {
+        Map<String, Object> changes = UserDocuments.collectChanges(patch);
+        if (changes.isEmpty()) {
+            return resolveUnmatchedPatch(id, expectedVersion);
+        }
+        return mongoTemplate.findAndModify(UserDocuments.patchQuery(id, changes, expectedVersion),
+                        UserDocuments.patchUpdate(changes), FindAndModifyOptions.options().returnNew(true), User.class)
+                .doOnNext(updatedUser -> userCache.invalidate(id))
+                .map(updatedUser -> new UserPatchResponse(PatchOutcome.UPDATED, updatedUser.getVersion()))
+                .switchIfEmpty(Mono.defer(() -> resolveUnmatchedPatch(id, expectedVersion)));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillVersions() {
+        mongoTemplate.updateMulti(new Query(Criteria.where("version").exists(false)),
+                        new Update().set("version", 0L), User.class)
+                .subscribe(result -> { }, e -> log.warn("Could not backfill user versions", e));
+    }
+
+    private Mono<UserPatchResponse> resolveUnmatchedPatch(String id, Long expectedVersion) {
+        return mongoTemplate.findOne(UserDocuments.versionQuery(id), User.class)
+                .map(current -> expectedVersion != null && !expectedVersion.equals(current.getVersion())
+                        ? new UserPatchResponse(PatchOutcome.VERSION_CONFLICT, current.getVersion())
+                        : new UserPatchResponse(PatchOutcome.UNCHANGED, current.getVersion()))
+                .defaultIfEmpty(new UserPatchResponse(PatchOutcome.NOT_FOUND, null));
+    }
+}
@@ -0,0 +1,161 @@
+package com.ecommerce.user.services;
+
+import com.ecommerce.user.config.UserListingProperties;
+import com.ecommerce.user.dto.AddressDTO;
+import com.ecommerce.user.dto.UserPatchRequest;
+import com.ecommerce.user.dto.UserRequest;
+import com.ecommerce.user.dto.UserResponse;
+import com.ecommerce.user.models.Address;
+import com.ecommerce.user.models.User;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Queries and mappings shared by the blocking {@link UserService} and the {@link ReactiveUserService},
+ * so both stacks read, page and patch user documents identically.
+ */
+final class UserDocuments {
+
+    private UserDocuments() {
+    }
+
+    static Query pageQuery(String cursor, int pageSize) {
+        Query query = responseProjection(new Query())
+                .with(Sort.by(Sort.Direction.ASC, "id"))
+                .limit(pageSize + 1);
+        if (cursor != null) {
+            query.addCriteria(Criteria.where("id").gt(decodeCursor(cursor)));
+        }
+        return query;
+    }
+
+    static Query exportQuery(int batchSize) {
+        return responseProjection(new Query())
+                .with(Sort.by(Sort.Direction.ASC, "id"))
+                .cursorBatchSize(batchSize);
+    }
+
+    static Query versionQuery(String id) {
+        Query query = new Query(Criteria.where("id").is(id));
+        query.fields().include("version");
+        return query;
+    }
+
+    private static Query responseProjection(Query query) {
+        query.fields().include("id", "firstName", "lastName", "email", "phone", "role", "address");
+        return query;
+    }
+
+    static int resolvePageSize(Integer size, UserListingProperties listingProperties) {
+        if (size == null || size <= 0) {
+            return listingProperties.getPageSize();
+        }
+        return Math.min(size, listingProperties.getMaxPageSize());
+    }
+
+    static String encodeCursor(String lastId) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(("id:" + lastId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decodeCursor(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (decoded.startsWith("id:") && decoded.length() > 3) {
+                return decoded.substring(3);
+            }
+        } catch (IllegalArgumentException ignored) {
+            // malformed base64, reported below
+        }
+        throw new IllegalArgumentException("Invalid cursor: " + cursor);
+    }
+
+    /**
+     * Matches the user only if at least one supplied field differs, and the expected version if given.
+     */
+    static Query patchQuery(String id, Map<String, Object> changes, Long expectedVersion) {
+        Criteria criteria = Criteria.where("id").is(id);
+        if (expectedVersion != null) {
+            criteria.and("version").is(expectedVersion);
+        }
+        criteria.orOperator(changes.entrySet().stream()
+                .map(change -> Criteria.where(change.getKey()).ne(change.getValue()))
+                .toArray(Criteria[]::new));
+        return new Query(criteria);
+    }
+
+    static Update patchUpdate(Map<String, Object> changes) {
+        Update update = new Update();
+        changes.forEach(update::set);
+        update.set("updatedAt", LocalDateTime.now());
+        update.inc("version", 1);
+        return update;
+    }
+
+    static Map<String, Object> collectChanges(UserPatchRequest patch) {
+        Map<String, Object> changes = new LinkedHashMap<>();
+        putIfPresent(changes, "firstName", patch.getFirstName());
+        putIfPresent(changes, "lastName", patch.getLastName());
+        putIfPresent(changes, "email", patch.getEmail());
+        putIfPresent(changes, "phone", patch.getPhone());
+        if (patch.getAddress() != null) {
+            putIfPresent(changes, "address.street", patch.getAddress().getStreet());
+            putIfPresent(changes, "address.city", patch.getAddress().getCity());
+            putIfPresent(changes, "address.state", patch.getAddress().getState());
+            putIfPresent(changes, "address.country", patch.getAddress().getCountry());
+            putIfPresent(changes, "address.zipcode", patch.getAddress().getZipcode());
+        }
+        return changes;
+    }
+
+    private static void putIfPresent(Map<String, Object> changes, String field, Object value) {
+        if (value != null) {
+            changes.put(field, value);
+        }
+    }
+
+    static void updateUserFromRequest(User user, UserRequest userRequest) {
+        user.setFirstName(userRequest.getFirstName());
+        user.setLastName(userRequest.getLastName());
+        user.setEmail(userRequest.getEmail());
+        user.setPhone(userRequest.getPhone());
+        if (userRequest.getAddress() != null) {
+            Address address = new Address();
+            address.setStreet(userRequest.getAddress().getStreet());
+            address.setState(userRequest.getAddress().getState());
+            address.setZipcode(userRequest.getAddress().getZipcode());
+            address.setCity(userRequest.getAddress().getCity());
+            address.setCountry(userRequest.getAddress().getCountry());
+            user.setAddress(address);
+        }
+    }
+
+    static UserResponse toUserResponse(User user) {
+        UserResponse response = new UserResponse();
+        response.setId(String.valueOf(user.getId()));
+        response.setFirstName(user.getFirstName());
+        response.setLastName(user.getLastName());
+        response.setEmail(user.getEmail());
+        response.setPhone(user.getPhone());
+        response.setRole(user.getRole());
+
+        if (user.getAddress() != null) {
+            AddressDTO addressDTO = new AddressDTO();
+            addressDTO.setStreet(user.getAddress().getStreet());
+            addressDTO.setCity(user.getAddress().getCity());
+            addressDTO.setState(user.getAddress().getState());
+            addressDTO.setCountry(user.getAddress().getCountry());
+            addressDTO.setZipcode(user.getAddress().getZipcode());
+            response.setAddress(addressDTO);
+        }
+        return response;
+    }
+}
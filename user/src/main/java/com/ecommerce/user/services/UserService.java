@@ -1,90 +1,132 @@
 package com.ecommerce.user.services;
 
-import com.ecommerce.user.dto.AddressDTO;
+import com.ecommerce.user.cache.UserCache;
+import com.ecommerce.user.config.UserListingProperties;
+import com.ecommerce.user.dto.CacheStatsResponse;
+import com.ecommerce.user.dto.PatchOutcome;
+import com.ecommerce.user.dto.UserPage;
+import com.ecommerce.user.dto.UserPatchRequest;
+import com.ecommerce.user.dto.UserPatchResponse;
 import com.ecommerce.user.dto.UserRequest;
 import com.ecommerce.user.dto.UserResponse;
-import com.ecommerce.user.models.Address;
 import com.ecommerce.user.models.User;
 import com.ecommerce.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
+@Profile("!reactive")
 @RequiredArgsConstructor
 public class UserService {
 
     private final UserRepository userRepository;
+    private final UserCache userCache;
+    private final MongoTemplate mongoTemplate;
+    private final UserListingProperties listingProperties;
 
    // private List<User> userList = new ArrayList<>();
     //private Long nextId = 1L;
 
 
 
-    public List<UserResponse> fetchAllUsers(){
-        return userRepository.findAll().stream()
+    public UserPage fetchUsers(String cursor, Integer size) {
+        int pageSize = UserDocuments.resolvePageSize(size, listingProperties);
+        List<User> users = mongoTemplate.find(UserDocuments.pageQuery(cursor, pageSize), User.class);
+
+        boolean hasMore = users.size() > pageSize;
+        List<UserResponse> items = users.stream()
+                .limit(pageSize)
                 .map(this::mapToUserResponse)
-                .collect(Collectors.toList());
+                .toList();
+        String nextCursor = hasMore ? UserDocuments.encodeCursor(items.get(items.size() - 1).getId()) : null;
+        return new UserPage(items, nextCursor);
+    }
+
+    public void exportUsers(Consumer<UserResponse> sink) {
+        Query query = UserDocuments.exportQuery(listingProperties.getExportBatchSize());
+        try (Stream<User> users = mongoTemplate.stream(query, User.class)) {
+            users.map(this::mapToUserResponse).forEach(sink);
+        }
     }
 
     public void addUser(UserRequest userRequest){
 //        user.setId(nextId++);
         User user = new User();
-        updateUserFromRequest(user, userRequest);
-        userRepository.save(user);
+        UserDocuments.updateUserFromRequest(user, userRequest);
+        User savedUser = userRepository.save(user);
+        userCache.invalidate(savedUser.getId());
     }
 
     public Optional<UserResponse> fetchUser(String id) {
-        return userRepository.findById(String.valueOf(id))
-                .map(this::mapToUserResponse);
+        return userCache.get(id, key -> userRepository.findById(key)
+                .map(this::mapToUserResponse));
+    }
+
+    public CacheStatsResponse fetchCacheStats() {
+        return userCache.stats();
     }
 
     public boolean updateUser(String id, UserRequest updatedUserRequest) {
         return userRepository.findById(String.valueOf(id))
                 .map(existingUser -> {
-                    updateUserFromRequest(existingUser, updatedUserRequest);
+                    UserDocuments.updateUserFromRequest(existingUser, updatedUserRequest);
                     userRepository.save(existingUser);
+                    userCache.invalidate(id);
                     return true;
                 }).orElse(false);
     }
 
-    private void updateUserFromRequest(User user, UserRequest userRequest) {
-        user.setFirstName(userRequest.getFirstName());
-        user.setLastName(userRequest.getLastName());
-        user.setEmail(userRequest.getEmail());
-        user.setPhone(userRequest.getPhone());
-        if (userRequest.getAddress() != null) {
-            Address address = new Address();
-            address.setStreet(userRequest.getAddress().getStreet());
-            address.setState(userRequest.getAddress().getState());
-            address.setZipcode(userRequest.getAddress().getZipcode());
-            address.setCity(userRequest.getAddress().getCity());
-            address.setCountry(userRequest.getAddress().getCountry());
-            user.setAddress(address);
+    /**
+     * Applies only the supplied fields with a single findAndModify. The match also requires at least
+     * one field to differ, so a no-op patch neither bumps the version nor invalidates the cache.
+     */
+    public UserPatchResponse patchUser(String id, UserPatchRequest patch, Long expectedVersion) {
+        Map<String, Object> changes = UserDocuments.collectChanges(patch);
+        if (changes.isEmpty()) {
+            return resolveUnmatchedPatch(id, expectedVersion);
         }
+
+        User updatedUser = mongoTemplate.findAndModify(UserDocuments.patchQuery(id, changes, expectedVersion),
+                UserDocuments.patchUpdate(changes), FindAndModifyOptions.options().returnNew(true), User.class);
+        if (updatedUser == null) {
+            return resolveUnmatchedPatch(id, expectedVersion);
+        }
+        userCache.invalidate(id);
+        return new UserPatchResponse(PatchOutcome.UPDATED, updatedUser.getVersion());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillVersions() {
+        mongoTemplate.updateMulti(new Query(Criteria.where("version").exists(false)),
+                new Update().set("version", 0L), User.class);
     }
 
-    private UserResponse mapToUserResponse(User user){
-        UserResponse response = new UserResponse();
-        response.setId(String.valueOf(user.getId()));
-        response.setFirstName(user.getFirstName());
-        response.setLastName(user.getLastName());
-        response.setEmail(user.getEmail());
-        response.setPhone(user.getPhone());
-        response.setRole(user.getRole());
-
-        if (user.getAddress() != null) {
-            AddressDTO addressDTO = new AddressDTO();
-            addressDTO.setStreet(user.getAddress().getStreet());
-            addressDTO.setCity(user.getAddress().getCity());
-            addressDTO.setState(user.getAddress().getState());
-            addressDTO.setCountry(user.getAddress().getCountry());
-            addressDTO.setZipcode(user.getAddress().getZipcode());
-            response.setAddress(addressDTO);
+    private UserPatchResponse resolveUnmatchedPatch(String id, Long expectedVersion) {
+        User current = mongoTemplate.findOne(UserDocuments.versionQuery(id), User.class);
+        if (current == null) {
+            return new UserPatchResponse(PatchOutcome.NOT_FOUND, null);
         }
-        return response;
+        if (expectedVersion != null && !expectedVersion.equals(current.getVersion())) {
+            return new UserPatchResponse(PatchOutcome.VERSION_CONFLICT, current.getVersion());
+        }
+        return new UserPatchResponse(PatchOutcome.UNCHANGED, current.getVersion());
+    }
+
+    UserResponse mapToUserResponse(User user){
+        return UserDocuments.toUserResponse(user);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,177 @@
+package com.ecommerce.user;
+
+import com.ecommerce.user.dto.CacheStatsResponse;
+import com.ecommerce.user.dto.PatchOutcome;
+import com.ecommerce.user.dto.UserPage;
+import com.ecommerce.user.dto.UserPatchRequest;
+import com.ecommerce.user.dto.UserPatchResponse;
+import com.ecommerce.user.dto.UserRequest;
+import com.ecommerce.user.dto.UserResponse;
+import com.ecommerce.user.repository.ReactiveUserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.cloud.config.enabled=false"
+})
+@ActiveProfiles("reactive")
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("Reactive User Controller Tests")
+class ReactiveUserControllerTest {
+
+    @Container
+    @ServiceConnection
+    static MongoDBContainer mongo = new MongoDBContainer("mongo:7.0");
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private ReactiveUserRepository userRepository;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.deleteAll().block();
+    }
+
+    @Test
+    @DisplayName("Should create, list and fetch users through the WebFlux endpoints")
+    void shouldServeUsersReactively() {
+        // Arrange
+        createUser("Ada", "ada@example.com");
+        createUser("Grace", "grace@example.com");
+
+        // Act
+        UserPage page = webTestClient.get().uri("/api/users?size=1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(UserPage.class)
+                .returnResult().getResponseBody();
+        UserPage nextPage = webTestClient.get().uri("/api/users?size=1&cursor=" + page.getNextCursor())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(UserPage.class)
+                .returnResult().getResponseBody();
+        List<UserResponse> all = webTestClient.get().uri("/api/users")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(UserResponse.class)
+                .returnResult().getResponseBody();
+        String id = page.getItems().get(0).getId();
+        webTestClient.get().uri("/api/users/" + id).exchange().expectStatus().isOk();
+        UserResponse cached = webTestClient.get().uri("/api/users/" + id)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(UserResponse.class)
+                .returnResult().getResponseBody();
+
+        // Assert
+        assertThat(page.getItems()).hasSize(1);
+        assertThat(nextPage.getItems()).hasSize(1);
+        assertThat(nextPage.getNextCursor()).isNull();
+        assertThat(all).extracting(UserResponse::getEmail).containsExactlyInAnyOrder("ada@example.com", "grace@example.com");
+        assertThat(cached.getEmail()).isEqualTo(page.getItems().get(0).getEmail());
+        CacheStatsResponse stats = webTestClient.get().uri("/api/users/cache/stats")
+                .exchange()
+                .expectBody(CacheStatsResponse.class)
+                .returnResult().getResponseBody();
+        assertThat(stats.getHitCount()).isPositive();
+    }
+
+    @Test
+    @DisplayName("Should return 404 for unknown users and 400 for malformed cursors")
+    void shouldMapMissingAndInvalidRequests() {
+        // Act & Assert
+        webTestClient.get().uri("/api/users/does-not-exist").exchange().expectStatus().isNotFound();
+        webTestClient.put().uri("/api/users/does-not-exist")
+                .bodyValue(userRequest("Nobody", "nobody@example.com"))
+                .exchange()
+                .expectStatus().isNotFound();
+        webTestClient.get().uri("/api/users?cursor=!!!").exchange().expectStatus().isBadRequest();
+    }
+
+    @Test
+    @DisplayName("Should patch with optimistic versions and invalidate the cached profile")
+    void shouldPatchWithIfMatch() {
+        // Arrange
+        createUser("Linus", "linus@example.com");
+        String id = userRepository.findAll().blockFirst().getId();
+        webTestClient.get().uri("/api/users/" + id).exchange().expectStatus().isOk();
+        UserPatchRequest patch = new UserPatchRequest();
+        patch.setPhone("555-0100");
+
+        // Act
+        UserPatchResponse updated = webTestClient.patch().uri("/api/users/" + id)
+                .header(HttpHeaders.IF_MATCH, "\"0\"")
+                .bodyValue(patch)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(UserPatchResponse.class)
+                .returnResult().getResponseBody();
+        webTestClient.patch().uri("/api/users/" + id)
+                .header(HttpHeaders.IF_MATCH, "\"0\"")
+                .bodyValue(patch)
+                .exchange()
+                .expectStatus().isEqualTo(412);
+
+        // Assert
+        assertThat(updated.getOutcome()).isEqualTo(PatchOutcome.UPDATED);
+        UserResponse user = webTestClient.get().uri("/api/users/" + id)
+                .exchange()
+                .expectBody(UserResponse.class)
+                .returnResult().getResponseBody();
+        assertThat(user.getPhone()).isEqualTo("555-0100");
+    }
+
+    @Test
+    @DisplayName("Should stream the export as NDJSON")
+    void shouldExportNdjson() {
+        // Arrange
+        createUser("Ada", "ada@example.com");
+        createUser("Grace", "grace@example.com");
+
+        // Act
+        List<UserResponse> exported = webTestClient.get().uri("/api/users/export")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(UserResponse.class)
+                .getResponseBody()
+                .collectList()
+                .block();
+
+        // Assert
+        assertThat(exported).extracting(UserResponse::getFirstName).containsExactly("Ada", "Grace");
+    }
+
+    private void createUser(String firstName, String email) {
+        webTestClient.post().uri("/api/users")
+                .bodyValue(userRequest(firstName, email))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class).isEqualTo("User added successfully");
+    }
+
+    private UserRequest userRequest(String firstName, String email) {
+        UserRequest request = new UserRequest();
+        request.setFirstName(firstName);
+        request.setLastName("Tester");
+        request.setEmail(email);
+        return request;
+    }
+}
@@ -0,0 +1,312 @@
+package com.ecommerce.user;
+
+import com.ecommerce.user.cache.UserCache;
+import com.ecommerce.user.config.UserCacheProperties;
+import com.ecommerce.user.config.UserListingProperties;
+import com.ecommerce.user.dto.AddressDTO;
+import com.ecommerce.user.dto.CacheStatsResponse;
+import com.ecommerce.user.dto.PatchOutcome;
+import com.ecommerce.user.dto.UserPage;
+import com.ecommerce.user.dto.UserPatchRequest;
+import com.ecommerce.user.dto.UserPatchResponse;
+import com.ecommerce.user.dto.UserRequest;
+import com.ecommerce.user.dto.UserResponse;
+import com.ecommerce.user.models.User;
+import com.ecommerce.user.repository.UserRepository;
+import com.ecommerce.user.services.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserService Unit Tests")
+class UserServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Spy
+    private UserCache userCache = new UserCache(new UserCacheProperties());
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Spy
+    private UserListingProperties listingProperties = new UserListingProperties();
+
+    @InjectMocks
+    private UserService userService;
+
+    private User savedUser;
+
+    @BeforeEach
+    void setUp() {
+        // Arrange - Set up test data
+        savedUser = createSavedUser();
+    }
+
+    @Nested
+    @DisplayName("Fetch User Cache Tests")
+    class FetchUserCacheTests {
+
+        @Test
+        @DisplayName("Should serve repeated reads from the cache")
+        void shouldServeRepeatedReadsFromCache() {
+            // Arrange
+            when(userRepository.findById("user-1")).thenReturn(Optional.of(savedUser));
+
+            // Act
+            Optional<UserResponse> first = userService.fetchUser("user-1");
+            Optional<UserResponse> second = userService.fetchUser("user-1");
+
+            // Assert
+            assertThat(first).isPresent();
+            assertThat(second).map(UserResponse::getEmail).contains("john@example.com");
+            verify(userRepository, times(1)).findById("user-1");
+
+            CacheStatsResponse stats = userService.fetchCacheStats();
+            assertThat(stats.getHitCount()).isEqualTo(1);
+            assertThat(stats.getMissCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should not cache missing users")
+        void shouldNotCacheMissingUsers() {
+            // Arrange
+            when(userRepository.findById("missing")).thenReturn(Optional.empty());
+
+            // Act
+            userService.fetchUser("missing");
+            Optional<UserResponse> result = userService.fetchUser("missing");
+
+            // Assert
+            assertThat(result).isEmpty();
+            verify(userRepository, times(2)).findById("missing");
+        }
+
+        @Test
+        @DisplayName("Should invalidate cached user on update")
+        void shouldInvalidateCachedUserOnUpdate() {
+            // Arrange
+            when(userRepository.findById("user-1")).thenReturn(Optional.of(savedUser));
+            userService.fetchUser("user-1");
+
+            UserRequest updateRequest = new UserRequest();
+            updateRequest.setFirstName("Jane");
+            updateRequest.setEmail("jane@example.com");
+
+            // Act
+            boolean updated = userService.updateUser("user-1", updateRequest);
+            Optional<UserResponse> result = userService.fetchUser("user-1");
+
+            // Assert
+            assertThat(updated).isTrue();
+            assertThat(result).map(UserResponse::getFirstName).contains("Jane");
+            verify(userCache, times(1)).invalidate("user-1");
+            verify(userRepository, times(3)).findById("user-1");
+        }
+
+        @Test
+        @DisplayName("Should invalidate cache entry for newly added user")
+        void shouldInvalidateCacheEntryOnAdd() {
+            // Arrange
+            when(userRepository.save(any(User.class))).thenReturn(savedUser);
+
+            // Act
+            userService.addUser(new UserRequest());
+
+            // Assert
+            verify(userCache, times(1)).invalidate("user-1");
+        }
+    }
+
+    @Nested
+    @DisplayName("Fetch Users Page Tests")
+    class FetchUsersPageTests {
+
+        @Test
+        @DisplayName("Should return a page with a continuation cursor when more users exist")
+        void shouldReturnPageWithCursor() {
+            // Arrange
+            User second = createSavedUser();
+            second.setId("user-2");
+            when(mongoTemplate.find(any(Query.class), eq(User.class))).thenReturn(List.of(savedUser, second));
+
+            // Act
+            UserPage page = userService.fetchUsers(null, 1);
+
+            // Assert
+            assertThat(page.getItems()).extracting(UserResponse::getId).containsExactly("user-1");
+            assertThat(page.getNextCursor()).isNotBlank();
+        }
+
+        @Test
+        @DisplayName("Should resume after the cursor of the previous page")
+        void shouldResumeAfterCursor() {
+            // Arrange
+            when(mongoTemplate.find(any(Query.class), eq(User.class)))
+                    .thenReturn(List.of(savedUser, createSavedUser()))
+                    .thenReturn(List.of());
+            String cursor = userService.fetchUsers(null, 1).getNextCursor();
+
+            // Act
+            UserPage page = userService.fetchUsers(cursor, 1);
+
+            // Assert
+            assertThat(page.getItems()).isEmpty();
+            assertThat(page.getNextCursor()).isNull();
+            verify(mongoTemplate).find(argThat((Query query) ->
+                    query.getQueryObject().containsKey("_id") || query.getQueryObject().containsKey("id")), eq(User.class));
+        }
+
+        @Test
+        @DisplayName("Should reject malformed cursor")
+        void shouldRejectMalformedCursor() {
+            // Act & Assert
+            assertThrows(IllegalArgumentException.class, () -> userService.fetchUsers("%%%", null));
+            verifyNoInteractions(mongoTemplate);
+        }
+
+        @Test
+        @DisplayName("Should stream users through a projected cursor")
+        void shouldStreamUsersThroughProjectedCursor() {
+            // Arrange
+            when(mongoTemplate.stream(any(Query.class), eq(User.class))).thenReturn(Stream.of(savedUser));
+            List<UserResponse> exported = new ArrayList<>();
+
+            // Act
+            userService.exportUsers(exported::add);
+
+            // Assert
+            assertThat(exported).extracting(UserResponse::getEmail).containsExactly("john@example.com");
+            verify(mongoTemplate).stream(argThat((Query query) ->
+                    query.getMeta().getCursorBatchSize() == 500
+                            && !query.getFieldsObject().containsKey("createdAt")), eq(User.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("Patch User Tests")
+    class PatchUserTests {
+
+        @Test
+        @DisplayName("Should $set only supplied fields and invalidate the cache")
+        void shouldSetOnlySuppliedFields() {
+            // Arrange
+            UserPatchRequest patch = new UserPatchRequest();
+            patch.setPhone("5550000");
+            AddressDTO address = new AddressDTO();
+            address.setCity("Pune");
+            patch.setAddress(address);
+            User updated = createSavedUser();
+            updated.setVersion(4L);
+            when(mongoTemplate.findAndModify(any(Query.class), any(Update.class),
+                    any(FindAndModifyOptions.class), eq(User.class))).thenReturn(updated);
+
+            // Act
+            UserPatchResponse response = userService.patchUser("user-1", patch, 3L);
+
+            // Assert
+            assertThat(response.getOutcome()).isEqualTo(PatchOutcome.UPDATED);
+            assertThat(response.isChanged()).isTrue();
+            assertThat(response.getVersion()).isEqualTo(4L);
+            verify(mongoTemplate).findAndModify(
+                    argThat((Query query) -> Long.valueOf(3L).equals(query.getQueryObject().get("version"))),
+                    argThat((Update update) -> {
+                        var set = (org.bson.Document) update.getUpdateObject().get("$set");
+                        return set.containsKey("phone") && set.containsKey("address.city")
+                                && !set.containsKey("firstName") && !set.containsKey("address.street");
+                    }),
+                    any(FindAndModifyOptions.class), eq(User.class));
+            verify(userCache, times(1)).invalidate("user-1");
+            verifyNoInteractions(userRepository);
+        }
+
+        @Test
+        @DisplayName("Should report unchanged without invalidating when values already match")
+        void shouldReportUnchanged() {
+            // Arrange
+            UserPatchRequest patch = new UserPatchRequest();
+            patch.setFirstName("John");
+            User current = createSavedUser();
+            current.setVersion(3L);
+            when(mongoTemplate.findAndModify(any(Query.class), any(Update.class),
+                    any(FindAndModifyOptions.class), eq(User.class))).thenReturn(null);
+            when(mongoTemplate.findOne(any(Query.class), eq(User.class))).thenReturn(current);
+
+            // Act
+            UserPatchResponse response = userService.patchUser("user-1", patch, null);
+
+            // Assert
+            assertThat(response.getOutcome()).isEqualTo(PatchOutcome.UNCHANGED);
+            assertThat(response.isChanged()).isFalse();
+            verify(userCache, never()).invalidate(any());
+        }
+
+        @Test
+        @DisplayName("Should report version conflict for stale expected version")
+        void shouldReportVersionConflict() {
+            // Arrange
+            UserPatchRequest patch = new UserPatchRequest();
+            patch.setFirstName("Jane");
+            User current = createSavedUser();
+            current.setVersion(5L);
+            when(mongoTemplate.findAndModify(any(Query.class), any(Update.class),
+                    any(FindAndModifyOptions.class), eq(User.class))).thenReturn(null);
+            when(mongoTemplate.findOne(any(Query.class), eq(User.class))).thenReturn(current);
+
+            // Act
+            UserPatchResponse response = userService.patchUser("user-1", patch, 3L);
+
+            // Assert
+            assertThat(response.getOutcome()).isEqualTo(PatchOutcome.VERSION_CONFLICT);
+            assertThat(response.getVersion()).isEqualTo(5L);
+        }
+
+        @Test
+        @DisplayName("Should report not found for unknown user")
+        void shouldReportNotFound() {
+            // Arrange
+            when(mongoTemplate.findOne(any(Query.class), eq(User.class))).thenReturn(null);
+
+            // Act
+            UserPatchResponse response = userService.patchUser("missing", new UserPatchRequest(), null);
+
+            // Assert
+            assertThat(response.getOutcome()).isEqualTo(PatchOutcome.NOT_FOUND);
+            verify(mongoTemplate, never()).findAndModify(any(Query.class), any(Update.class),
+                    any(FindAndModifyOptions.class), eq(User.class));
+        }
+    }
+
+    private User createSavedUser() {
+        User user = new User();
+        user.setId("user-1");
+        user.setFirstName("John");
+        user.setLastName("Doe");
+        user.setEmail("john@example.com");
+        user.setPhone("1234567890");
+        return user;
+    }
+}